@@ -0,0 +1,47 @@
+#!/bin/sh
+#
+# Runs the benchmarks of a baseline revision and of the working tree on the
+# same machine and fails, if a benchmark of the working tree regressed by more
+# than the given tolerance.
+#
+# Usage: benchmarks/regression.sh <baseline revision> [tolerance]
+
+set -e
+
+if [ $# -lt 1 ]; then
+	echo "Usage: $0 <baseline revision> [tolerance]" >&2
+	exit 2
+fi
+
+REVISION=$1
+TOLERANCE=${2:-0.25}
+JMH_OPTIONS="-f 1 -wi 3 -i 5 -w 1s -r 1s"
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORKTREE=$ROOT/target/baseline-worktree
+BASELINE=$ROOT/benchmarks/target/baseline.csv
+RESULT=$ROOT/benchmarks/target/jmh-result.csv
+ALLOW_MISSING_BASELINE=
+
+rm -rf "$WORKTREE" "$BASELINE"
+git -C "$ROOT" worktree prune
+git -C "$ROOT" worktree add --detach "$WORKTREE" "$REVISION"
+if [ -f "$WORKTREE/benchmarks/pom.xml" ]; then
+	mvn -B -q -f "$WORKTREE/pom.xml" -DskipTests install
+	mvn -B -q -f "$WORKTREE/benchmarks/pom.xml" package
+	mkdir -p "$ROOT/benchmarks/target"
+	java -jar "$WORKTREE/benchmarks/target/benchmarks.jar" $JMH_OPTIONS -rff "$BASELINE"
+else
+	# the baseline revision predates the benchmarks
+	ALLOW_MISSING_BASELINE=--allow-missing-baseline
+fi
+rm -rf "$WORKTREE"
+git -C "$ROOT" worktree prune
+
+mvn -B -q -f "$ROOT/pom.xml" -DskipTests install
+mvn -B -q -f "$ROOT/benchmarks/pom.xml" package
+java -jar "$ROOT/benchmarks/target/benchmarks.jar" $JMH_OPTIONS -rff "$RESULT"
+
+java -cp "$ROOT/benchmarks/target/benchmarks.jar" \
+	net.markenwerk.commons.datastructures.benchmarks.BaselineComparison \
+	$ALLOW_MISSING_BASELINE "$BASELINE" "$RESULT" "$TOLERANCE"
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a CSV result file written by the {@link BenchmarkRunner} against a
+ * baseline result file and fails, if the score or the normalized allocation
+ * rate of any benchmark has regressed by more than a given tolerance.
+ * 
+ * <p>
+ * Usage: {@code BaselineComparison [--allow-missing-baseline] <baseline.csv>
+ * <result.csv> [tolerance]}, where the tolerance is a relative value that
+ * defaults to {@code 0.1}. A missing baseline file is treated as a failure,
+ * unless {@code --allow-missing-baseline} is given.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class BaselineComparison {
+
+	private static final String ALLOW_MISSING_BASELINE = "--allow-missing-baseline";
+
+	private static final String USAGE = "Usage: BaselineComparison [" + ALLOW_MISSING_BASELINE
+			+ "] <baseline.csv> <result.csv> [tolerance]";
+
+	private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+	private static final double DEFAULT_TOLERANCE = 0.1;
+
+	private static final double ALLOCATION_SLACK = 1.0;
+
+	private BaselineComparison() {
+	}
+
+	/**
+	 * Compares the given result files.
+	 * 
+	 * @param arguments
+	 *            Optionally {@code --allow-missing-baseline}, the baseline
+	 *            file, the result file and, optionally, the tolerance.
+	 * @throws IOException
+	 *             If reading a result file failed.
+	 */
+	public static void main(String[] arguments) throws IOException {
+		boolean allowMissingBaseline = arguments.length > 0 && ALLOW_MISSING_BASELINE.equals(arguments[0]);
+		int offset = allowMissingBaseline ? 1 : 0;
+		if (arguments.length - offset < 2 || arguments.length - offset > 3) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		File baselineFile = new File(arguments[offset]);
+		if (!baselineFile.isFile()) {
+			if (allowMissingBaseline) {
+				System.out.println("No baseline at " + baselineFile + ", nothing to compare");
+				return;
+			}
+			System.err.println("No baseline at " + baselineFile + ", use " + ALLOW_MISSING_BASELINE
+					+ " to skip the comparison");
+			System.exit(1);
+		}
+		double tolerance = arguments.length - offset > 2 ? Double.parseDouble(arguments[offset + 2])
+				: DEFAULT_TOLERANCE;
+		Map<String, Score> baseline = read(baselineFile);
+		Map<String, Score> result = read(new File(arguments[offset + 1]));
+		int regressions = 0;
+		for (Map.Entry<String, Score> entry : result.entrySet()) {
+			Score before = baseline.get(entry.getKey());
+			Score after = entry.getValue();
+			if (null == before) {
+				System.out.println("NEW        " + entry.getKey() + ": " + after);
+			} else if (isRegression(entry.getKey(), before, after, tolerance)) {
+				System.out.println("REGRESSION " + entry.getKey() + ": " + before + " -> " + after);
+				regressions++;
+			} else {
+				System.out.println("OK         " + entry.getKey() + ": " + before + " -> " + after);
+			}
+		}
+		if (0 != regressions) {
+			System.out.println(regressions + " regression(s) beyond a tolerance of " + tolerance);
+			System.exit(1);
+		}
+	}
+
+	private static boolean isRegression(String key, Score before, Score after, double tolerance) {
+		if (key.contains(ALLOCATION_METRIC)) {
+			return after.value > before.value * (1 + tolerance) && after.value - before.value >= ALLOCATION_SLACK;
+		} else if ("thrpt".equals(after.mode)) {
+			return after.value < before.value * (1 - tolerance);
+		} else {
+			return after.value > before.value * (1 + tolerance);
+		}
+	}
+
+	private static Map<String, Score> read(File file) throws IOException {
+		Map<String, Score> scores = new LinkedHashMap<String, Score>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+		try {
+			String line = reader.readLine();
+			if (null == line) {
+				return scores;
+			}
+			List<String> header = split(line);
+			int benchmarkIndex = header.indexOf("Benchmark");
+			int modeIndex = header.indexOf("Mode");
+			int scoreIndex = header.indexOf("Score");
+			int unitIndex = header.indexOf("Unit");
+			while (null != (line = reader.readLine())) {
+				List<String> fields = split(line);
+				String benchmark = fields.get(benchmarkIndex);
+				if (benchmark.contains(":") && !benchmark.contains(ALLOCATION_METRIC)) {
+					continue;
+				}
+				StringBuilder key = new StringBuilder(benchmark);
+				for (int i = unitIndex + 1; i < fields.size(); i++) {
+					key.append(" [").append(header.get(i)).append("=").append(fields.get(i)).append("]");
+				}
+				try {
+					double value = Double.parseDouble(fields.get(scoreIndex));
+					if (!Double.isNaN(value)) {
+						scores.put(key.toString(), new Score(fields.get(modeIndex), value, fields.get(unitIndex)));
+					}
+				} catch (NumberFormatException e) {
+					// missing scores of failed benchmarks are not compared
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return scores;
+	}
+
+	private static List<String> split(String line) {
+		List<String> fields = new ArrayList<String>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char character = line.charAt(i);
+			if ('"' == character) {
+				if (quoted && i + 1 < line.length() && '"' == line.charAt(i + 1)) {
+					field.append('"');
+					i++;
+				} else {
+					quoted = !quoted;
+				}
+			} else if (',' == character && !quoted) {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(character);
+			}
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	private static final class Score {
+
+		private final String mode;
+
+		private final double value;
+
+		private final String unit;
+
+		private Score(String mode, double value, String unit) {
+			this.mode = mode;
+			this.value = value;
+			this.unit = unit;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%.3f %s", value, unit);
+		}
+
+	}
+
+}
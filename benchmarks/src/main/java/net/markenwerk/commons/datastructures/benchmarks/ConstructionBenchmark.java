@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.Box;
+import net.markenwerk.commons.datastructures.Either;
+import net.markenwerk.commons.datastructures.Entry;
+import net.markenwerk.commons.datastructures.Left;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.datastructures.Pair;
+import net.markenwerk.commons.datastructures.Right;
+import net.markenwerk.commons.datastructures.Triple;
+import net.markenwerk.commons.datastructures.Tuple;
+import net.markenwerk.commons.datastructures.Wrapper;
+
+/**
+ * Measures the construction of every container class.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructionBenchmark {
+
+	private String first;
+
+	private String second;
+
+	private String third;
+
+	@Setup
+	public void setup() {
+		first = "first";
+		second = "second";
+		third = "third";
+	}
+
+	@Benchmark
+	public Box<String> box() {
+		return new Box<String>(first);
+	}
+
+	@Benchmark
+	public Wrapper<String> wrapper() {
+		return new Wrapper<String>(first);
+	}
+
+	@Benchmark
+	public Optional<String> optional_value() {
+		return new Optional<String>(first);
+	}
+
+	@Benchmark
+	public Optional<String> optional_noValue() {
+		return new Optional<String>();
+	}
+
+	@Benchmark
+	public Pair<String> pair() {
+		return new Pair<String>(first, second);
+	}
+
+	@Benchmark
+	public Tuple<String, String> tuple() {
+		return new Tuple<String, String>(first, second);
+	}
+
+	@Benchmark
+	public Triple<String, String, String> triple() {
+		return new Triple<String, String, String>(first, second, third);
+	}
+
+	@Benchmark
+	public Entry<String, String> entry() {
+		return new Entry<String, String>(first, second);
+	}
+
+	@Benchmark
+	public Either<String, String> left() {
+		return new Left<String, String>(first);
+	}
+
+	@Benchmark
+	public Either<String, String> right() {
+		return new Right<String, String>(second);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.Entry;
+import net.markenwerk.commons.datastructures.Pair;
+import net.markenwerk.commons.datastructures.Triple;
+import net.markenwerk.commons.datastructures.Tuple;
+
+/**
+ * Measures the creation of modified copies with the {@code withFirst}-style
+ * and {@code withKey}-style methods.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CopyBenchmark {
+
+	private String replacement;
+
+	private Pair<String> pair;
+
+	private Tuple<String, String> tuple;
+
+	private Triple<String, String, String> triple;
+
+	private Entry<String, String> entry;
+
+	@Setup
+	public void setup() {
+		replacement = "replacement";
+		pair = new Pair<String>("first", "second");
+		tuple = new Tuple<String, String>("first", "second");
+		triple = new Triple<String, String, String>("first", "second", "third");
+		entry = new Entry<String, String>("key", "value");
+	}
+
+	@Benchmark
+	public Pair<String> pair_withFirst() {
+		return pair.withFirst(replacement);
+	}
+
+	@Benchmark
+	public Pair<String> pair_withSecond() {
+		return pair.withSecond(replacement);
+	}
+
+	@Benchmark
+	public Tuple<String, String> tuple_withFirst() {
+		return tuple.withFirst(replacement);
+	}
+
+	@Benchmark
+	public Tuple<String, String> tuple_withSecond() {
+		return tuple.withSecond(replacement);
+	}
+
+	@Benchmark
+	public Triple<String, String, String> triple_withFirst() {
+		return triple.withFirst(replacement);
+	}
+
+	@Benchmark
+	public Triple<String, String, String> triple_withSecond() {
+		return triple.withSecond(replacement);
+	}
+
+	@Benchmark
+	public Triple<String, String, String> triple_withThird() {
+		return triple.withThird(replacement);
+	}
+
+	@Benchmark
+	public Entry<String, String> entry_withKey() {
+		return entry.withKey(replacement);
+	}
+
+	@Benchmark
+	public Entry<String, String> entry_withValue() {
+		return entry.withValue(replacement);
+	}
+
+}
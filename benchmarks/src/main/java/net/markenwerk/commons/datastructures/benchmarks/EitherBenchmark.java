@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.Either;
+import net.markenwerk.commons.datastructures.Left;
+import net.markenwerk.commons.datastructures.Right;
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
+/**
+ * Measures the dispatch over a batch of randomly mixed {@link Left} and
+ * {@link Right} {@link Either Eithers}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EitherBenchmark {
+
+	@Param({ "1000" })
+	public int size;
+
+	private Either<Integer, Integer>[] eithers;
+
+	private Converter<Integer, Integer> negation;
+
+	private Converter<Integer, Integer> identity;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		Random random = new Random(42);
+		eithers = new Either[size];
+		for (int i = 0; i < size; i++) {
+			if (random.nextBoolean()) {
+				eithers[i] = new Left<Integer, Integer>(i);
+			} else {
+				eithers[i] = new Right<Integer, Integer>(i);
+			}
+		}
+		negation = new Converter<Integer, Integer>() {
+
+			@Override
+			public Integer convert(Integer from) throws ConversionException {
+				return -from;
+			}
+
+		};
+		identity = new Converter<Integer, Integer>() {
+
+			@Override
+			public Integer convert(Integer from) throws ConversionException {
+				return from;
+			}
+
+		};
+	}
+
+	@Benchmark
+	public long dispatch() {
+		long sum = 0;
+		for (Either<Integer, Integer> either : eithers) {
+			if (either.isLeft()) {
+				sum -= either.getLeft();
+			} else {
+				sum += either.getRight();
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fold() {
+		long sum = 0;
+		for (Either<Integer, Integer> either : eithers) {
+			sum += either.fold(negation, identity);
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.Either;
+import net.markenwerk.commons.datastructures.Entry;
+import net.markenwerk.commons.datastructures.Left;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.datastructures.Pair;
+import net.markenwerk.commons.datastructures.Triple;
+import net.markenwerk.commons.datastructures.Tuple;
+import net.markenwerk.commons.datastructures.Wrapper;
+
+/**
+ * Measures {@link Object#hashCode()} and {@link Object#equals(Object)} of every
+ * immutable container class. Compared instances are equal, but not identical,
+ * so that {@link Object#equals(Object)} has to compare all values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashCodeEqualsBenchmark {
+
+	private Wrapper<String> wrapper;
+
+	private Wrapper<String> otherWrapper;
+
+	private Optional<String> optional;
+
+	private Optional<String> otherOptional;
+
+	private Pair<String> pair;
+
+	private Pair<String> otherPair;
+
+	private Tuple<String, String> tuple;
+
+	private Tuple<String, String> otherTuple;
+
+	private Triple<String, String, String> triple;
+
+	private Triple<String, String, String> otherTriple;
+
+	private Entry<String, String> entry;
+
+	private Entry<String, String> otherEntry;
+
+	private Either<String, String> left;
+
+	private Either<String, String> otherLeft;
+
+	@Setup
+	public void setup() {
+		wrapper = new Wrapper<String>(copy("value"));
+		otherWrapper = new Wrapper<String>(copy("value"));
+		optional = new Optional<String>(copy("value"));
+		otherOptional = new Optional<String>(copy("value"));
+		pair = new Pair<String>(copy("first"), copy("second"));
+		otherPair = new Pair<String>(copy("first"), copy("second"));
+		tuple = new Tuple<String, String>(copy("first"), copy("second"));
+		otherTuple = new Tuple<String, String>(copy("first"), copy("second"));
+		triple = new Triple<String, String, String>(copy("first"), copy("second"), copy("third"));
+		otherTriple = new Triple<String, String, String>(copy("first"), copy("second"), copy("third"));
+		entry = new Entry<String, String>(copy("key"), copy("value"));
+		otherEntry = new Entry<String, String>(copy("key"), copy("value"));
+		left = new Left<String, String>(copy("value"));
+		otherLeft = new Left<String, String>(copy("value"));
+	}
+
+	private static String copy(String value) {
+		return new String(value.toCharArray());
+	}
+
+	@Benchmark
+	public int wrapper_hashCode() {
+		return wrapper.hashCode();
+	}
+
+	@Benchmark
+	public boolean wrapper_equals() {
+		return wrapper.equals(otherWrapper);
+	}
+
+	@Benchmark
+	public int optional_hashCode() {
+		return optional.hashCode();
+	}
+
+	@Benchmark
+	public boolean optional_equals() {
+		return optional.equals(otherOptional);
+	}
+
+	@Benchmark
+	public int pair_hashCode() {
+		return pair.hashCode();
+	}
+
+	@Benchmark
+	public boolean pair_equals() {
+		return pair.equals(otherPair);
+	}
+
+	@Benchmark
+	public int tuple_hashCode() {
+		return tuple.hashCode();
+	}
+
+	@Benchmark
+	public boolean tuple_equals() {
+		return tuple.equals(otherTuple);
+	}
+
+	@Benchmark
+	public int triple_hashCode() {
+		return triple.hashCode();
+	}
+
+	@Benchmark
+	public boolean triple_equals() {
+		return triple.equals(otherTriple);
+	}
+
+	@Benchmark
+	public int entry_hashCode() {
+		return entry.hashCode();
+	}
+
+	@Benchmark
+	public boolean entry_equals() {
+		return entry.equals(otherEntry);
+	}
+
+	@Benchmark
+	public int left_hashCode() {
+		return left.hashCode();
+	}
+
+	@Benchmark
+	public boolean left_equals() {
+		return left.equals(otherLeft);
+	}
+
+}
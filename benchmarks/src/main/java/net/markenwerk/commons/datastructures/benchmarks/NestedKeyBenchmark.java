@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.Entry;
+import net.markenwerk.commons.datastructures.Triple;
+import net.markenwerk.commons.datastructures.Tuple;
+
+/**
+ * Measures {@link Object#hashCode()} of, and {@link HashMap} lookups with,
+ * nested keys of the form {@code Tuple<Triple<..>, Entry<..>>}. Every
+ * benchmark reuses the same lookup key instance, as long-lived keys do, so
+ * that the cached hash codes take effect.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NestedKeyBenchmark {
+
+	@Param({ "1000" })
+	public int size;
+
+	private Map<Tuple<Triple<String, String, String>, Entry<String, String>>, Integer> map;
+
+	private Tuple<Triple<String, String, String>, Entry<String, String>> key;
+
+	@Setup
+	public void setup() {
+		map = new HashMap<Tuple<Triple<String, String, String>, Entry<String, String>>, Integer>();
+		for (int i = 0; i < size; i++) {
+			map.put(createKey(i), i);
+		}
+		key = createKey(size / 2);
+	}
+
+	private static Tuple<Triple<String, String, String>, Entry<String, String>> createKey(int index) {
+		Triple<String, String, String> triple = new Triple<String, String, String>("tenant-" + index, "service-"
+				+ index, "route-" + index);
+		Entry<String, String> entry = new Entry<String, String>("header-" + index, "value-" + index);
+		return new Tuple<Triple<String, String, String>, Entry<String, String>>(triple, entry);
+	}
+
+	@Benchmark
+	public int hashCode_nested() {
+		return key.hashCode();
+	}
+
+	@Benchmark
+	public Integer hashMap_get() {
+		return map.get(key);
+	}
+
+}
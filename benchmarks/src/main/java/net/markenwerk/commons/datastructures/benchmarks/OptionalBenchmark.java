@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.AbstractOptionalSelection;
+import net.markenwerk.commons.datastructures.ConvertingOptionalPipeline;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.datastructures.OptionalSelection;
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
+/**
+ * Measures {@link Optional#select(OptionalSelection)} and
+ * {@link Optional#convert(Converter)} for {@link Optional Optionals} with and
+ * without a value.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OptionalBenchmark {
+
+	private Optional<String> value;
+
+	private Optional<String> noValue;
+
+	private OptionalSelection<String, Integer> selection;
+
+	private Converter<String, Integer> converter;
+
+	private Converter<Integer, String> inverter;
+
+	private ConvertingOptionalPipeline<String, String> pipeline;
+
+	@Setup
+	public void setup() {
+		value = new Optional<String>("value");
+		noValue = new Optional<String>();
+		selection = new AbstractOptionalSelection<String, Integer>() {
+
+			@Override
+			public Integer onNoValue() {
+				return 0;
+			}
+
+			@Override
+			public Integer onValue(String payload) {
+				return payload.length();
+			}
+
+		};
+		converter = new Converter<String, Integer>() {
+
+			@Override
+			public Integer convert(String from) throws ConversionException {
+				return from.length();
+			}
+
+		};
+		inverter = new Converter<Integer, String>() {
+
+			@Override
+			public String convert(Integer from) throws ConversionException {
+				return from.toString();
+			}
+
+		};
+		pipeline = ConvertingOptionalPipeline.of(converter).then(inverter).then(converter).then(inverter);
+	}
+
+	@Benchmark
+	public Integer select_value() {
+		return value.select(selection);
+	}
+
+	@Benchmark
+	public Integer select_noValue() {
+		return noValue.select(selection);
+	}
+
+	@Benchmark
+	public Optional<Integer> convert_value() {
+		return value.convert(converter);
+	}
+
+	@Benchmark
+	public Optional<Integer> convert_noValue() {
+		return noValue.convert(converter);
+	}
+
+	@Benchmark
+	public Optional<String> convertChain_value() {
+		return value.convert(converter).convert(inverter).convert(converter).convert(inverter);
+	}
+
+	@Benchmark
+	public Optional<String> convertChain_noValue() {
+		return noValue.convert(converter).convert(inverter).convert(converter).convert(inverter);
+	}
+
+	@Benchmark
+	public Optional<String> pipeline_value() {
+		return value.select(pipeline);
+	}
+
+	@Benchmark
+	public Optional<String> pipeline_noValue() {
+		return noValue.select(pipeline);
+	}
+
+}
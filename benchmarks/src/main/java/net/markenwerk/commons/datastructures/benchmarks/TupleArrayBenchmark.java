@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.datastructures.Tuple;
+
+/**
+ * Measures the memory footprint of, and the scan throughput over, arrays of
+ * {@link Tuple Tuples}. The footprint is reported by the GC profiler as the
+ * normalized allocation rate of {@link TupleArrayBenchmark#allocate()}.
+ * 
+ * <p>
+ * Comparing results of a regular build with results of a build with the
+ * {@code valhalla} profile, which compiles {@link Tuple} as a value class,
+ * shows the effect of flattening tuples into arrays.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleArrayBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private Integer[] values;
+
+	private Tuple<Integer, Integer>[] tuples;
+
+	@Setup
+	public void setup() {
+		values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = Integer.valueOf(i);
+		}
+		tuples = allocate();
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public Tuple<Integer, Integer>[] allocate() {
+		Tuple<Integer, Integer>[] tuples = new Tuple[size];
+		for (int i = 0; i < size; i++) {
+			tuples[i] = new Tuple<Integer, Integer>(values[i], values[size - 1 - i]);
+		}
+		return tuples;
+	}
+
+	@Benchmark
+	public long scan() {
+		long sum = 0;
+		for (Tuple<Integer, Integer> tuple : tuples) {
+			sum += tuple.getFirst() - tuple.getSecond();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int scan_hashCode() {
+		int hash = 0;
+		for (Tuple<Integer, Integer> tuple : tuples) {
+			hash += tuple.hashCode();
+		}
+		return hash;
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.build;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * A {@link PrimitiveTupleGenerator} generates the sources of the primitive
+ * specializations of {@code Tuple} for all combinations of {@code int},
+ * {@code long}, {@code double} and {@link Object} values (e.g.
+ * {@code IntIntTuple}, {@code IntObjTuple} or {@code DoubleLongTuple}). It is
+ * run during the {@code generate-sources} phase of the build.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class PrimitiveTupleGenerator {
+
+	private static final String PACKAGE = "net.markenwerk.commons.datastructures";
+
+	private static final String LICENSE = "" //
+			+ "/*\n" //
+			+ " * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH\n" //
+			+ " *\n" //
+			+ " * Permission is hereby granted, free of charge, to any person obtaining a copy\n" //
+			+ " * of this software and associated documentation files (the \"Software\"), to deal\n" //
+			+ " * in the Software without restriction, including without limitation the rights\n" //
+			+ " * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell\n" //
+			+ " * copies of the Software, and to permit persons to whom the Software is\n" //
+			+ " * furnished to do so, subject to the following conditions:\n" //
+			+ " *\n" //
+			+ " * The above copyright notice and this permission notice shall be included in\n" //
+			+ " * all copies or substantial portions of the Software.\n" //
+			+ " *\n" //
+			+ " * THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR\n" //
+			+ " * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,\n" //
+			+ " * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE\n" //
+			+ " * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER\n" //
+			+ " * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,\n" //
+			+ " * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN\n" //
+			+ " * THE SOFTWARE.\n" //
+			+ " */\n";
+
+	private PrimitiveTupleGenerator() {
+	}
+
+	/**
+	 * Generates the sources.
+	 * 
+	 * @param arguments
+	 *            The directory to generate the sources into.
+	 * @throws IOException
+	 *             If writing a source file failed.
+	 */
+	public static void main(String[] arguments) throws IOException {
+		if (1 != arguments.length) {
+			throw new IllegalArgumentException("Usage: PrimitiveTupleGenerator <output directory>");
+		}
+		File directory = new File(arguments[0], PACKAGE.replace('.', File.separatorChar));
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Failed to create directory " + directory);
+		}
+		for (Kind first : Kind.values()) {
+			for (Kind second : Kind.values()) {
+				if (Kind.OBJ != first || Kind.OBJ != second) {
+					Component firstComponent = new Component(first, "first", "First");
+					Component secondComponent = new Component(second, "second", "Second");
+					write(directory, firstComponent, secondComponent);
+				}
+			}
+		}
+	}
+
+	private static void write(File directory, Component first, Component second) throws IOException {
+		String name = first.kind.prefix + second.kind.prefix + "Tuple";
+		Writer writer = new OutputStreamWriter(new FileOutputStream(new File(directory, name + ".java")), "UTF-8");
+		try {
+			writer.write(generate(name, first, second));
+		} finally {
+			writer.close();
+		}
+	}
+
+	private static String generate(String name, Component first, Component second) {
+		String parameters = parameters(first, second);
+		String type = name + parameters;
+		StringBuilder builder = new StringBuilder();
+		builder.append(LICENSE);
+		builder.append("package ").append(PACKAGE).append(";\n");
+		builder.append("\n");
+		builder.append("/**\n");
+		builder.append(" * A {@link ").append(name).append("} is a simple immutable container class that holds a\n");
+		builder.append(" * ").append(first.describe()).append(" and a ").append(second.describe()).append(".\n");
+		builder.append(" * It is a specialization of {@link Tuple} that doesn't box primitive values\n");
+		builder.append(" * and has the same {@link Object#hashCode()} as the equivalent {@link Tuple}.\n");
+		builder.append(" * \n");
+		first.appendTypeParameterDoc(builder);
+		second.appendTypeParameterDoc(builder);
+		builder.append(" * @author Torsten Krause (tk at markenwerk dot net)\n");
+		builder.append(" * @since 1.4.0\n");
+		builder.append(" */\n");
+		builder.append("public final class ").append(type).append(" {\n");
+		builder.append("\n");
+		builder.append("\tprivate final ").append(first.type()).append(" first;\n");
+		builder.append("\n");
+		builder.append("\tprivate final ").append(second.type()).append(" second;\n");
+		builder.append("\n");
+		builder.append("\t/**\n");
+		builder.append("\t * Creates a new {@link ").append(name).append("}.\n");
+		builder.append("\t * \n");
+		builder.append("\t * @param first\n");
+		builder.append("\t *            The first value to be used.\n");
+		builder.append("\t * @param second\n");
+		builder.append("\t *            The second value to be used.\n");
+		builder.append("\t */\n");
+		builder.append("\tpublic ").append(name).append("(").append(first.type()).append(" first, ")
+				.append(second.type()).append(" second) {\n");
+		builder.append("\t\tthis.first = first;\n");
+		builder.append("\t\tthis.second = second;\n");
+		builder.append("\t}\n");
+		appendAccessors(builder, name, type, first, "second");
+		appendAccessors(builder, name, type, second, "first");
+		builder.append("\n");
+		builder.append("\t/**\n");
+		builder.append("\t * Creates a new {@link Tuple} with the boxed values of this {@link ").append(name)
+				.append("}.\n");
+		builder.append("\t * \n");
+		builder.append("\t * @return The created {@link Tuple}.\n");
+		builder.append("\t */\n");
+		builder.append("\tpublic Tuple<").append(first.boxedType()).append(", ").append(second.boxedType())
+				.append("> toTuple() {\n");
+		builder.append("\t\treturn new Tuple<").append(first.boxedType()).append(", ").append(second.boxedType())
+				.append(">(first, second);\n");
+		builder.append("\t}\n");
+		builder.append("\n");
+		builder.append("\t@Override\n");
+		builder.append("\tpublic int hashCode() {\n");
+		builder.append("\t\tfinal int prime = 31;\n");
+		builder.append("\t\tint result = 1;\n");
+		first.appendHashCode(builder);
+		second.appendHashCode(builder);
+		builder.append("\t\treturn result;\n");
+		builder.append("\t}\n");
+		builder.append("\n");
+		builder.append("\t@Override\n");
+		builder.append("\tpublic boolean equals(Object object) {\n");
+		builder.append("\t\tif (this == object) {\n");
+		builder.append("\t\t\treturn true;\n");
+		builder.append("\t\t} else if (object == null) {\n");
+		builder.append("\t\t\treturn false;\n");
+		builder.append("\t\t} else if (getClass() != object.getClass()) {\n");
+		builder.append("\t\t\treturn false;\n");
+		builder.append("\t\t}\n");
+		builder.append("\t\t").append(name).append(wildcards(first, second)).append(" other = (").append(name)
+				.append(wildcards(first, second)).append(") object;\n");
+		builder.append("\t\tif (").append(first.notEqual()).append(") {\n");
+		builder.append("\t\t\treturn false;\n");
+		builder.append("\t\t} else if (").append(second.notEqual()).append(") {\n");
+		builder.append("\t\t\treturn false;\n");
+		builder.append("\t\t}\n");
+		builder.append("\t\treturn true;\n");
+		builder.append("\t}\n");
+		builder.append("\n");
+		builder.append("\t@Override\n");
+		builder.append("\tpublic String toString() {\n");
+		builder.append("\t\treturn \"").append(name).append(" [first=\" + first + \", second=\" + second + \"]\";\n");
+		builder.append("\t}\n");
+		builder.append("\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+
+	private static void appendAccessors(StringBuilder builder, String name, String type, Component component,
+			String other) {
+		builder.append("\n");
+		builder.append("\t/**\n");
+		builder.append("\t * Returns the ").append(component.name).append(" value this {@link ").append(name)
+				.append("} has been created\n");
+		builder.append("\t * with.\n");
+		builder.append("\t * \n");
+		builder.append("\t * @return The ").append(component.name).append(" value.\n");
+		builder.append("\t */\n");
+		builder.append("\tpublic ").append(component.type()).append(" get").append(component.typeName)
+				.append("() {\n");
+		builder.append("\t\treturn ").append(component.name).append(";\n");
+		builder.append("\t}\n");
+		builder.append("\n");
+		builder.append("\t/**\n");
+		builder.append("\t * Creates a new {@link ").append(name).append("} with the given ").append(component.name)
+				.append(" value and the\n");
+		builder.append("\t * ").append(other).append(" value from this {@link ").append(name).append("}.\n");
+		builder.append("\t * \n");
+		builder.append("\t * @param ").append(component.name).append("\n");
+		builder.append("\t *            The ").append(component.name).append(" value to be used.\n");
+		builder.append("\t * @return The created {@link ").append(name).append("}.\n");
+		builder.append("\t */\n");
+		builder.append("\tpublic ").append(type).append(" with").append(component.typeName).append("(")
+				.append(component.type()).append(" ").append(component.name).append(") {\n");
+		builder.append("\t\treturn new ").append(type).append("(first, second);\n");
+		builder.append("\t}\n");
+	}
+
+	private static String parameters(Component first, Component second) {
+		if (Kind.OBJ == first.kind) {
+			return "<" + first.typeName + ">";
+		} else if (Kind.OBJ == second.kind) {
+			return "<" + second.typeName + ">";
+		} else {
+			return "";
+		}
+	}
+
+	private static String wildcards(Component first, Component second) {
+		return Kind.OBJ == first.kind || Kind.OBJ == second.kind ? "<?>" : "";
+	}
+
+	private static enum Kind {
+
+		INT("Int", "int", "Integer"),
+
+		LONG("Long", "long", "Long"),
+
+		DOUBLE("Double", "double", "Double"),
+
+		OBJ("Obj", null, null);
+
+		private final String prefix;
+
+		private final String primitiveType;
+
+		private final String boxedType;
+
+		private Kind(String prefix, String primitiveType, String boxedType) {
+			this.prefix = prefix;
+			this.primitiveType = primitiveType;
+			this.boxedType = boxedType;
+		}
+
+	}
+
+	private static final class Component {
+
+		private final Kind kind;
+
+		private final String name;
+
+		private final String typeName;
+
+		private Component(Kind kind, String name, String typeName) {
+			this.kind = kind;
+			this.name = name;
+			this.typeName = typeName;
+		}
+
+		private String type() {
+			return Kind.OBJ == kind ? typeName : kind.primitiveType;
+		}
+
+		private String boxedType() {
+			return Kind.OBJ == kind ? typeName : kind.boxedType;
+		}
+
+		private String describe() {
+			return Kind.OBJ == kind ? name + " value" : name + " {@code " + kind.primitiveType + "} value";
+		}
+
+		private void appendTypeParameterDoc(StringBuilder builder) {
+			if (Kind.OBJ == kind) {
+				builder.append(" * @param <").append(typeName).append(">\n");
+				builder.append(" *            The type of the ").append(name).append(" value.\n");
+			}
+		}
+
+		private void appendHashCode(StringBuilder builder) {
+			switch (kind) {
+			case INT:
+				builder.append("\t\tresult = prime * result + ").append(name).append(";\n");
+				break;
+			case LONG:
+				builder.append("\t\tresult = prime * result + (int) (").append(name).append(" ^ (").append(name)
+						.append(" >>> 32));\n");
+				break;
+			case DOUBLE:
+				builder.append("\t\tlong ").append(name).append("Bits = Double.doubleToLongBits(").append(name)
+						.append(");\n");
+				builder.append("\t\tresult = prime * result + (int) (").append(name).append("Bits ^ (").append(name)
+						.append("Bits >>> 32));\n");
+				break;
+			default:
+				builder.append("\t\tresult = prime * result + ((").append(name).append(" == null) ? 0 : ").append(name)
+						.append(".hashCode());\n");
+			}
+		}
+
+		private String notEqual() {
+			switch (kind) {
+			case INT:
+			case LONG:
+				return name + " != other." + name;
+			case DOUBLE:
+				return "Double.doubleToLongBits(" + name + ") != Double.doubleToLongBits(other." + name + ")";
+			default:
+				return "null == " + name + " ? null != other." + name + " : !" + name + ".equals(other." + name + ")";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures.build;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ValueClassGenerator} generates the sources of the value class
+ * variants of {@code Tuple}, {@code Pair}, {@code Triple}, {@code Entry} and
+ * {@code Wrapper} from their identity class sources. It is run during the
+ * {@code generate-sources} phase of the build and fails, if an identity class
+ * source no longer has the expected shape, so that both variants can't get out
+ * of sync.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class ValueClassGenerator {
+
+	private static final String PACKAGE = "net.markenwerk.commons.datastructures";
+
+	private static final String[] NAMES = new String[] { "Tuple", "Pair", "Triple", "Entry", "Wrapper" };
+
+	private static final Pattern CACHING_DOC = Pattern.compile(
+			" \\* An? \\{@link \\w+\\} caches its hash code.*?\\n(?= \\* \\n| \\*/)", Pattern.DOTALL);
+
+	private static final String VALUE_CLASS_DOC = "" //
+			+ " * This variant is only compiled with the {@code valhalla} profile. It is a\n" //
+			+ " * value class without identity, which allows a Valhalla JVM to flatten\n" //
+			+ " * instances into fields and arrays. Because all fields of a value class are\n" //
+			+ " * final, it doesn't cache its hash code.\n";
+
+	private static final Pattern CLASS_DECLARATION = Pattern.compile("public final class ");
+
+	private static final Pattern HASH_FIELD = Pattern.compile("\tprivate int hash;\n\n");
+
+	private static final Pattern CACHING_HASH_CODE = Pattern.compile("" //
+			+ "\t\tint result = hash;\n" //
+			+ "\t\tif \\(0 == result(?: && (.*?))?\\) \\{\n" //
+			+ "((?:\t\t\t.*\n)*?)" //
+			+ "\t\t\tif \\(hasImmutableValues\\(\\)\\) \\{\n" //
+			+ "\t\t\t\thash = result;\n" //
+			+ "\t\t\t\\}\n" //
+			+ "\t\t\\}\n");
+
+	private static final Pattern CACHED_HASH_CHECK = Pattern.compile("return 0 != hash \\|\\| (?:\\((.*)\\)|(.*));");
+
+	private static final Pattern HASH_REFERENCE = Pattern.compile("\\bhash\\b(?! codes?\\b)");
+
+	private ValueClassGenerator() {
+	}
+
+	/**
+	 * Generates the sources.
+	 * 
+	 * @param arguments
+	 *            The directory that contains the identity class sources and the
+	 *            directory to generate the sources into.
+	 * @throws IOException
+	 *             If reading or writing a source file failed.
+	 */
+	public static void main(String[] arguments) throws IOException {
+		if (2 != arguments.length) {
+			throw new IllegalArgumentException("Usage: ValueClassGenerator <source directory> <output directory>");
+		}
+		String path = PACKAGE.replace('.', File.separatorChar);
+		File sourceDirectory = new File(arguments[0], path);
+		File directory = new File(arguments[1], path);
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Failed to create directory " + directory);
+		}
+		for (String name : NAMES) {
+			String source = read(new File(sourceDirectory, name + ".java"));
+			write(new File(directory, name + ".java"), generate(name, source));
+		}
+	}
+
+	private static String generate(String name, String source) {
+		String result = replaceOnce(name, CACHING_DOC, source, Matcher.quoteReplacement(VALUE_CLASS_DOC));
+		result = replaceOnce(name, CLASS_DECLARATION, result, "public value class ");
+		result = replaceOnce(name, HASH_FIELD, result, "");
+		Matcher matcher = CACHING_HASH_CODE.matcher(result);
+		if (!matcher.find()) {
+			throw outOfSync(name, CACHING_HASH_CODE);
+		}
+		result = result.substring(0, matcher.start()) + hashCode(matcher.group(1), matcher.group(2))
+				+ result.substring(matcher.end());
+		matcher = CACHED_HASH_CHECK.matcher(result);
+		if (!matcher.find()) {
+			throw outOfSync(name, CACHED_HASH_CHECK);
+		}
+		String check = null == matcher.group(1) ? matcher.group(2) : matcher.group(1);
+		result = result.substring(0, matcher.start()) + "return " + check + ";" + result.substring(matcher.end());
+		if (HASH_REFERENCE.matcher(result).find()) {
+			throw new IllegalStateException("The source of " + name + " has an unexpected reference to its hash field");
+		}
+		return result;
+	}
+
+	private static String hashCode(String condition, String body) {
+		if (null == condition) {
+			return body.replaceAll("(?m)^\t\t\t", "\t\t").replaceFirst("\t\tresult = ", "\t\tint result = ");
+		} else {
+			return "\t\tint result = 0;\n\t\tif (" + condition + ") {\n" + body + "\t\t}\n";
+		}
+	}
+
+	private static String replaceOnce(String name, Pattern pattern, String source, String replacement) {
+		Matcher matcher = pattern.matcher(source);
+		if (!matcher.find()) {
+			throw outOfSync(name, pattern);
+		}
+		String result = source.substring(0, matcher.start()) + replacement + source.substring(matcher.end());
+		if (matcher.find()) {
+			throw outOfSync(name, pattern);
+		}
+		return result;
+	}
+
+	private static IllegalStateException outOfSync(String name, Pattern pattern) {
+		return new IllegalStateException("The source of " + name + " doesn't match " + pattern.pattern()
+				+ " exactly once");
+	}
+
+	private static String read(File file) throws IOException {
+		Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+		try {
+			StringBuilder builder = new StringBuilder();
+			char[] buffer = new char[4096];
+			int length;
+			while (-1 != (length = reader.read(buffer))) {
+				builder.append(buffer, 0, length);
+			}
+			return builder.toString();
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static void write(File file, String source) throws IOException {
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(source);
+		} finally {
+			writer.close();
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * An {@link AbstractConvertingOptionalLongSelection} is a
+ * {@link OptionalLongSelection} that converts the value of the
+ * {@link OptionalLong#select(OptionalLongSelection) handled}
+ * {@link OptionalLong}, if present, and returns another {@link OptionalLong}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public abstract class AbstractConvertingOptionalLongSelection implements OptionalLongSelection<OptionalLong> {
+
+	@Override
+	public OptionalLong onNoValue() {
+		return OptionalLong.empty();
+	}
+
+	@Override
+	public OptionalLong onValue(long payload) {
+		return new OptionalLong(doConvert(payload));
+	}
+
+	/**
+	 * Converts the value of the
+	 * {@link OptionalLong#select(OptionalLongSelection) handled}
+	 * {@link OptionalLong}.
+	 * 
+	 * @param payload
+	 *            The value of the handled {@link OptionalLong}.
+	 * @return A result value.
+	 */
+	protected abstract long doConvert(long payload);
+
+}
@@ -39,12 +39,12 @@ public abstract class AbstractConvertingOptionalSelection<Payload, Result> imple
 
 	@Override
 	public Optional<Result> onNoValue() {
-		return new Optional<Result>();
+		return Optional.empty();
 	}
 
 	@Override
 	public Optional<Result> onValue(Payload payload) {
-		return new Optional<Result>(doConvert(payload));
+		return Optional.of(doConvert(payload));
 	}
 
 	/**
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link AbstractInterner} is a base implementation for {@link Interner}
+ * implementations that spreads the canonical instances over a number of
+ * independently locked segments and counts hits and misses.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @param <Segment>
+ *            The segment type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public abstract class AbstractInterner<Payload, Segment> implements Interner<Payload> {
+
+	/**
+	 * The default number of segments.
+	 */
+	public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final Object[] segments;
+
+	private final int mask;
+
+	/**
+	 * Creates a new {@link AbstractInterner}.
+	 * 
+	 * @param segments
+	 *            The segments to be used. The number of segments must be a
+	 *            power of two, as returned by
+	 *            {@link AbstractInterner#numberOfSegments(int)}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link List} of segments is {@literal null} or
+	 *             if its size is not a power of two.
+	 */
+	protected AbstractInterner(List<? extends Segment> segments) throws IllegalArgumentException {
+		if (null == segments) {
+			throw new IllegalArgumentException("The given segments are null");
+		}
+		int numberOfSegments = segments.size();
+		if (0 == numberOfSegments || 0 != (numberOfSegments & (numberOfSegments - 1))) {
+			throw new IllegalArgumentException("The number of given segments is not a power of two");
+		}
+		this.segments = segments.toArray();
+		mask = numberOfSegments - 1;
+	}
+
+	/**
+	 * Returns the number of segments to be used for the given concurrency
+	 * level, which is the smallest power of two that is not less than the given
+	 * concurrency level.
+	 * 
+	 * @param concurrencyLevel
+	 *            The minimum number of segments to be used.
+	 * @return The number of segments.
+	 * @throws IllegalArgumentException
+	 *             If the given concurrency level is not positive or too large.
+	 */
+	protected static int numberOfSegments(int concurrencyLevel) throws IllegalArgumentException {
+		return Segments.numberOfSegments(concurrencyLevel);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final Payload intern(Payload payload) {
+		if (null == payload) {
+			return null;
+		}
+		Segment segment = (Segment) segments[Segments.indexOf(payload, mask)];
+		Payload canonical;
+		synchronized (segment) {
+			canonical = doIntern(segment, payload);
+		}
+		if (null == canonical) {
+			misses.incrementAndGet();
+			return payload;
+		} else {
+			hits.incrementAndGet();
+			return canonical;
+		}
+	}
+
+	@Override
+	public final long getHitCount() {
+		return hits.get();
+	}
+
+	@Override
+	public final long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the canonical instance that is equal to the given payload value
+	 * from the given segment, or adds the given payload value as the canonical
+	 * instance. This method is called while holding the lock of the given
+	 * segment.
+	 * 
+	 * @param segment
+	 *            The segment to be used.
+	 * @param payload
+	 *            The payload value to be interned.
+	 * @return The canonical instance or {@literal null}, if the given payload
+	 *         value has been added as the canonical instance.
+	 */
+	protected abstract Payload doIntern(Segment segment, Payload payload);
+
+}
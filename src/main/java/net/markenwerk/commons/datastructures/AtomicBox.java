@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import net.markenwerk.commons.interfaces.Converter;
+
+/**
+ * An {@link AtomicBox} is a thread-safe mutable container class that holds a
+ * single value. It is the lock-free counterpart of {@link Box}: all reads and
+ * writes have volatile semantics and values can be updated atomically.
+ * 
+ * <p>
+ * The {@link Converter} and {@link Combiner} given to the update methods may be
+ * called more than once, if other threads update the value concurrently, and
+ * should therefore be free of side effects.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class AtomicBox<Payload> {
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<AtomicBox, Object> VALUE = AtomicReferenceFieldUpdater
+			.newUpdater(AtomicBox.class, Object.class, "value");
+
+	private volatile Payload value;
+
+	/**
+	 * Creates a new {@link AtomicBox} with {@literal null} as the current
+	 * value.
+	 */
+	public AtomicBox() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new {@link AtomicBox}.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public AtomicBox(Payload value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the current value of this {@link AtomicBox}.
+	 * 
+	 * @return The value.
+	 */
+	public Payload getValue() {
+		return value;
+	}
+
+	/**
+	 * Sets the current value of this {@link AtomicBox}.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public void setValue(Payload value) {
+		this.value = value;
+	}
+
+	/**
+	 * Eventually sets the current value of this {@link AtomicBox}. Other
+	 * threads may observe the previous value for a short while.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public void lazySet(Payload value) {
+		VALUE.lazySet(this, value);
+	}
+
+	/**
+	 * Sets the current value of this {@link AtomicBox} to the given value, if
+	 * the current value is identical to the given expected value.
+	 * 
+	 * @param expected
+	 *            The expected value.
+	 * @param value
+	 *            The value to be used.
+	 * @return Whether the current value has been set.
+	 */
+	public boolean compareAndSet(Payload expected, Payload value) {
+		return VALUE.compareAndSet(this, expected, value);
+	}
+
+	/**
+	 * Sets the current value of this {@link AtomicBox} and returns the
+	 * previous value.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 * @return The previous value.
+	 */
+	@SuppressWarnings("unchecked")
+	public Payload getAndSet(Payload value) {
+		return (Payload) VALUE.getAndSet(this, value);
+	}
+
+	/**
+	 * Updates the current value of this {@link AtomicBox} with the given
+	 * {@link Converter} and returns the previous value.
+	 * 
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @return The previous value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null}.
+	 */
+	public Payload getAndUpdate(Converter<? super Payload, ? extends Payload> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		Payload previous;
+		do {
+			previous = value;
+		} while (!VALUE.compareAndSet(this, previous, converter.convert(previous)));
+		return previous;
+	}
+
+	/**
+	 * Updates the current value of this {@link AtomicBox} with the given
+	 * {@link Converter} and returns the updated value.
+	 * 
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @return The updated value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null}.
+	 */
+	public Payload updateAndGet(Converter<? super Payload, ? extends Payload> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		Payload previous;
+		Payload next;
+		do {
+			previous = value;
+			next = converter.convert(previous);
+		} while (!VALUE.compareAndSet(this, previous, next));
+		return next;
+	}
+
+	/**
+	 * Combines the current value of this {@link AtomicBox} with the given value
+	 * and returns the previous value.
+	 * 
+	 * @param value
+	 *            The value to be combined with the current value.
+	 * @param combiner
+	 *            The {@link Combiner} to be used. It is called with the current
+	 *            value as the first value.
+	 * @return The previous value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Combiner} is {@literal null}.
+	 */
+	public Payload getAndAccumulate(Payload value, Combiner<Payload> combiner) throws IllegalArgumentException {
+		if (null == combiner) {
+			throw new IllegalArgumentException("The given combiner is null");
+		}
+		Payload previous;
+		do {
+			previous = this.value;
+		} while (!VALUE.compareAndSet(this, previous, combiner.combine(previous, value)));
+		return previous;
+	}
+
+	/**
+	 * Combines the current value of this {@link AtomicBox} with the given value
+	 * and returns the updated value.
+	 * 
+	 * @param value
+	 *            The value to be combined with the current value.
+	 * @param combiner
+	 *            The {@link Combiner} to be used. It is called with the current
+	 *            value as the first value.
+	 * @return The updated value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Combiner} is {@literal null}.
+	 */
+	public Payload accumulateAndGet(Payload value, Combiner<Payload> combiner) throws IllegalArgumentException {
+		if (null == combiner) {
+			throw new IllegalArgumentException("The given combiner is null");
+		}
+		Payload previous;
+		Payload next;
+		do {
+			previous = this.value;
+			next = combiner.combine(previous, value);
+		} while (!VALUE.compareAndSet(this, previous, next));
+		return next;
+	}
+
+	@Override
+	public String toString() {
+		return "AtomicBox [value=" + value + "]";
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link BoundedCache} is a map with a maximum size that evicts mappings
+ * according to an {@link EvictionPolicy} and, optionally, treats mappings as
+ * absent once they are older than a given time to live. A {@link BoundedCache}
+ * is not thread-safe.
+ * 
+ * <p>
+ * With {@link EvictionPolicy#LEAST_FREQUENTLY_USED}, the {@link Slot Slots}
+ * are additionally kept in a list of frequency buckets, ordered by ascending
+ * frequency, where every bucket holds its {@link Slot Slots} in insertion
+ * order. Accessing, adding and evicting a {@link Slot} therefore takes
+ * constant time.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Value>
+ *            The value type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+final class BoundedCache<Key, Value> {
+
+	private final Map<Key, Slot<Key, Value>> slots;
+
+	private final int maximumSize;
+
+	private final EvictionPolicy policy;
+
+	private final long timeToLive;
+
+	private Bucket<Key, Value> lowest;
+
+	BoundedCache(int maximumSize, EvictionPolicy policy, long timeToLive) {
+		this.slots = new LinkedHashMap<Key, Slot<Key, Value>>(16, 0.75f,
+				EvictionPolicy.LEAST_RECENTLY_USED == policy);
+		this.maximumSize = maximumSize;
+		this.policy = policy;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Returns the {@link Slot} that holds the value for the given key, or
+	 * {@literal null}, if no such value is cached or if the cached value has
+	 * expired.
+	 */
+	Slot<Key, Value> get(Key key, long now) {
+		Slot<Key, Value> slot = slots.get(key);
+		if (null != slot) {
+			if (0 != timeToLive && now - slot.created >= timeToLive) {
+				remove(slots.remove(key));
+				return null;
+			}
+			if (EvictionPolicy.LEAST_FREQUENTLY_USED == policy) {
+				touch(slot);
+			}
+		}
+		return slot;
+	}
+
+	void put(Key key, Value value, long now) {
+		Slot<Key, Value> slot = new Slot<Key, Value>(key, value, now);
+		Slot<Key, Value> previous = slots.put(key, slot);
+		if (null != previous) {
+			remove(previous);
+		} else if (slots.size() > maximumSize) {
+			evict();
+		}
+		if (EvictionPolicy.LEAST_FREQUENTLY_USED == policy) {
+			add(slot);
+		}
+	}
+
+	int size() {
+		return slots.size();
+	}
+
+	void clear() {
+		slots.clear();
+		lowest = null;
+	}
+
+	private void evict() {
+		if (EvictionPolicy.LEAST_FREQUENTLY_USED == policy) {
+			Slot<Key, Value> victim = lowest.head;
+			slots.remove(victim.key);
+			remove(victim);
+		} else {
+			Iterator<Slot<Key, Value>> iterator = slots.values().iterator();
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private void add(Slot<Key, Value> slot) {
+		Bucket<Key, Value> bucket = lowest;
+		if (null == bucket || 0 != bucket.frequency) {
+			bucket = new Bucket<Key, Value>(0);
+			bucket.next = lowest;
+			if (null != lowest) {
+				lowest.previous = bucket;
+			}
+			lowest = bucket;
+		}
+		bucket.append(slot);
+	}
+
+	private void touch(Slot<Key, Value> slot) {
+		Bucket<Key, Value> bucket = slot.bucket;
+		Bucket<Key, Value> next = bucket.next;
+		if (null == next || bucket.frequency + 1 != next.frequency) {
+			next = new Bucket<Key, Value>(bucket.frequency + 1);
+			next.previous = bucket;
+			next.next = bucket.next;
+			if (null != bucket.next) {
+				bucket.next.previous = next;
+			}
+			bucket.next = next;
+		}
+		remove(slot);
+		next.append(slot);
+	}
+
+	private void remove(Slot<Key, Value> slot) {
+		Bucket<Key, Value> bucket = slot.bucket;
+		if (null == bucket) {
+			return;
+		}
+		bucket.unlink(slot);
+		if (null == bucket.head) {
+			if (null == bucket.previous) {
+				lowest = bucket.next;
+			} else {
+				bucket.previous.next = bucket.next;
+			}
+			if (null != bucket.next) {
+				bucket.next.previous = bucket.previous;
+			}
+		}
+	}
+
+	static final class Slot<Key, Value> {
+
+		final Key key;
+
+		final Value value;
+
+		final long created;
+
+		private Bucket<Key, Value> bucket;
+
+		private Slot<Key, Value> previous;
+
+		private Slot<Key, Value> next;
+
+		Slot(Key key, Value value, long created) {
+			this.key = key;
+			this.value = value;
+			this.created = created;
+		}
+
+	}
+
+	private static final class Bucket<Key, Value> {
+
+		private final long frequency;
+
+		private Bucket<Key, Value> previous;
+
+		private Bucket<Key, Value> next;
+
+		private Slot<Key, Value> head;
+
+		private Slot<Key, Value> tail;
+
+		Bucket(long frequency) {
+			this.frequency = frequency;
+		}
+
+		void append(Slot<Key, Value> slot) {
+			slot.bucket = this;
+			slot.previous = tail;
+			slot.next = null;
+			if (null == tail) {
+				head = slot;
+			} else {
+				tail.next = slot;
+			}
+			tail = slot;
+		}
+
+		void unlink(Slot<Key, Value> slot) {
+			if (null == slot.previous) {
+				head = slot.next;
+			} else {
+				slot.previous.next = slot.next;
+			}
+			if (null == slot.next) {
+				tail = slot.previous;
+			} else {
+				slot.next.previous = slot.previous;
+			}
+			slot.bucket = null;
+			slot.previous = null;
+			slot.next = null;
+		}
+
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link ByteBufferDataInput} is a {@link DataInput} that reads directly from
+ * a {@link ByteBuffer}, starting at its current position. Heap buffers and
+ * direct buffers are read without copying them.
+ * 
+ * <p>
+ * {@link ByteBufferDataInput#readSlice(int)} returns a view of a range of the
+ * underlying {@link ByteBuffer}, which allows {@link Codec Codecs} to decode
+ * binary payloads without copying them.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class ByteBufferDataInput implements DataInput {
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * Creates a new {@link ByteBufferDataInput}. The given {@link ByteBuffer}
+	 * is not copied, but its position and byte order are not modified.
+	 * 
+	 * @param buffer
+	 *            The {@link ByteBuffer} to be read from.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteBuffer} is {@literal null}.
+	 */
+	public ByteBufferDataInput(ByteBuffer buffer) throws IllegalArgumentException {
+		if (null == buffer) {
+			throw new IllegalArgumentException("The given buffer is null");
+		}
+		this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Returns the current position in the underlying {@link ByteBuffer}.
+	 * 
+	 * @return The current position.
+	 */
+	public int getPosition() {
+		return buffer.position();
+	}
+
+	/**
+	 * Returns the number of bytes that are left to be read.
+	 * 
+	 * @return The number of remaining bytes.
+	 */
+	public int getRemaining() {
+		return buffer.remaining();
+	}
+
+	/**
+	 * Returns a read-only view of the next given number of bytes and advances
+	 * the current position past these bytes. The returned {@link ByteBuffer}
+	 * shares its content with the underlying {@link ByteBuffer}.
+	 * 
+	 * @param length
+	 *            The number of bytes.
+	 * @return The read-only view.
+	 * @throws IllegalArgumentException
+	 *             If the given length is negative.
+	 * @throws EOFException
+	 *             If less than the given number of bytes remain.
+	 */
+	public ByteBuffer readSlice(int length) throws IllegalArgumentException, EOFException {
+		if (length < 0) {
+			throw new IllegalArgumentException("The given length is negative");
+		}
+		require(length);
+		ByteBuffer slice = buffer.slice();
+		slice.limit(length);
+		buffer.position(buffer.position() + length);
+		return slice.asReadOnlyBuffer();
+	}
+
+	@Override
+	public void readFully(byte[] bytes) throws EOFException {
+		readFully(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void readFully(byte[] bytes, int offset, int length) throws EOFException {
+		require(length);
+		buffer.get(bytes, offset, length);
+	}
+
+	@Override
+	public int skipBytes(int count) {
+		int skipped = Math.max(0, Math.min(count, buffer.remaining()));
+		buffer.position(buffer.position() + skipped);
+		return skipped;
+	}
+
+	@Override
+	public boolean readBoolean() throws EOFException {
+		return 0 != readByte();
+	}
+
+	@Override
+	public byte readByte() throws EOFException {
+		require(1);
+		return buffer.get();
+	}
+
+	@Override
+	public int readUnsignedByte() throws EOFException {
+		return readByte() & 0xFF;
+	}
+
+	@Override
+	public short readShort() throws EOFException {
+		require(2);
+		return buffer.getShort();
+	}
+
+	@Override
+	public int readUnsignedShort() throws EOFException {
+		return readShort() & 0xFFFF;
+	}
+
+	@Override
+	public char readChar() throws EOFException {
+		require(2);
+		return buffer.getChar();
+	}
+
+	@Override
+	public int readInt() throws EOFException {
+		require(4);
+		return buffer.getInt();
+	}
+
+	@Override
+	public long readLong() throws EOFException {
+		require(8);
+		return buffer.getLong();
+	}
+
+	@Override
+	public float readFloat() throws EOFException {
+		require(4);
+		return buffer.getFloat();
+	}
+
+	@Override
+	public double readDouble() throws EOFException {
+		require(8);
+		return buffer.getDouble();
+	}
+
+	@Override
+	public String readLine() {
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+		StringBuilder builder = new StringBuilder();
+		while (buffer.hasRemaining()) {
+			char character = (char) (buffer.get() & 0xFF);
+			if ('\n' == character) {
+				break;
+			} else if ('\r' == character) {
+				if (buffer.hasRemaining() && '\n' == buffer.get(buffer.position())) {
+					buffer.get();
+				}
+				break;
+			}
+			builder.append(character);
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+
+	private void require(int length) throws EOFException {
+		if (buffer.remaining() < length) {
+			throw new EOFException("Required " + length + " bytes, but only " + buffer.remaining() + " remain");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ByteBufferDataInput [position=" + buffer.position() + ", remaining=" + buffer.remaining() + "]";
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link ByteBufferDataOutput} is a {@link DataOutput} that writes directly
+ * into a {@link ByteBuffer}.
+ * 
+ * <p>
+ * A {@link ByteBufferDataOutput} that has been created with a given
+ * {@link ByteBuffer} writes into the content of that {@link ByteBuffer},
+ * starting at its current position, and throws a
+ * {@link BufferOverflowException}, if the {@link ByteBuffer} is full. A {@link ByteBufferDataOutput} that has been
+ * created with an initial capacity allocates its own {@link ByteBuffer} and
+ * replaces it with a larger one, if necessary.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class ByteBufferDataOutput implements DataOutput {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private final boolean growable;
+
+	private ByteBuffer buffer;
+
+	/**
+	 * Creates a new {@link ByteBufferDataOutput} that allocates its own heap
+	 * {@link ByteBuffer}.
+	 */
+	public ByteBufferDataOutput() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * Creates a new {@link ByteBufferDataOutput} that allocates its own
+	 * {@link ByteBuffer}.
+	 * 
+	 * @param initialCapacity
+	 *            The initial capacity.
+	 * @param direct
+	 *            Whether to allocate direct {@link ByteBuffer ByteBuffers}.
+	 * @throws IllegalArgumentException
+	 *             If the given initial capacity is negative.
+	 */
+	public ByteBufferDataOutput(int initialCapacity, boolean direct) throws IllegalArgumentException {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("The given initial capacity is negative");
+		}
+		buffer = direct ? ByteBuffer.allocateDirect(initialCapacity) : ByteBuffer.allocate(initialCapacity);
+		growable = true;
+	}
+
+	/**
+	 * Creates a new {@link ByteBufferDataOutput} that writes into the given
+	 * {@link ByteBuffer}. The given {@link ByteBuffer} is not copied, but its
+	 * position and byte order are not modified. The number of written bytes
+	 * is available through {@link ByteBufferDataOutput#getPosition()}.
+	 * 
+	 * @param buffer
+	 *            The {@link ByteBuffer} to be written into.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteBuffer} is {@literal null}.
+	 */
+	public ByteBufferDataOutput(ByteBuffer buffer) throws IllegalArgumentException {
+		if (null == buffer) {
+			throw new IllegalArgumentException("The given buffer is null");
+		}
+		this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+		growable = false;
+	}
+
+	/**
+	 * Returns the underlying {@link ByteBuffer}, which is a duplicate of the
+	 * given {@link ByteBuffer}, if this {@link ByteBufferDataOutput} has been
+	 * created with a given {@link ByteBuffer}. Its position is the position
+	 * after the last written byte. The underlying {@link ByteBuffer} of a
+	 * growing {@link ByteBufferDataOutput} may be replaced by subsequent
+	 * writes.
+	 * 
+	 * @return The underlying {@link ByteBuffer}.
+	 */
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Returns the position in the underlying {@link ByteBuffer} after the last
+	 * written byte.
+	 * 
+	 * @return The current position.
+	 */
+	public int getPosition() {
+		return buffer.position();
+	}
+
+	/**
+	 * {@link ByteBuffer#clear() Clears} the underlying {@link ByteBuffer}, so
+	 * that it can be reused.
+	 */
+	public void clear() {
+		buffer.clear();
+	}
+
+	@Override
+	public void write(int value) {
+		require(1);
+		buffer.put((byte) value);
+	}
+
+	@Override
+	public void write(byte[] bytes) {
+		write(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) {
+		require(length);
+		buffer.put(bytes, offset, length);
+	}
+
+	/**
+	 * Writes the remaining bytes of the given {@link ByteBuffer}, without
+	 * modifying its position.
+	 * 
+	 * @param bytes
+	 *            The {@link ByteBuffer} to be written.
+	 */
+	public void write(ByteBuffer bytes) {
+		require(bytes.remaining());
+		buffer.put(bytes.duplicate());
+	}
+
+	@Override
+	public void writeBoolean(boolean value) {
+		write(value ? 1 : 0);
+	}
+
+	@Override
+	public void writeByte(int value) {
+		write(value);
+	}
+
+	@Override
+	public void writeShort(int value) {
+		require(2);
+		buffer.putShort((short) value);
+	}
+
+	@Override
+	public void writeChar(int value) {
+		require(2);
+		buffer.putChar((char) value);
+	}
+
+	@Override
+	public void writeInt(int value) {
+		require(4);
+		buffer.putInt(value);
+	}
+
+	@Override
+	public void writeLong(long value) {
+		require(8);
+		buffer.putLong(value);
+	}
+
+	@Override
+	public void writeFloat(float value) {
+		require(4);
+		buffer.putFloat(value);
+	}
+
+	@Override
+	public void writeDouble(double value) {
+		require(8);
+		buffer.putDouble(value);
+	}
+
+	@Override
+	public void writeBytes(String value) {
+		int length = value.length();
+		require(length);
+		for (int i = 0; i < length; i++) {
+			buffer.put((byte) value.charAt(i));
+		}
+	}
+
+	@Override
+	public void writeChars(String value) {
+		int length = value.length();
+		require(length * 2);
+		for (int i = 0; i < length; i++) {
+			buffer.putChar(value.charAt(i));
+		}
+	}
+
+	@Override
+	public void writeUTF(String value) throws UTFDataFormatException {
+		int length = value.length();
+		int encodedLength = 0;
+		for (int i = 0; i < length; i++) {
+			char character = value.charAt(i);
+			if (character >= 0x0001 && character <= 0x007F) {
+				encodedLength += 1;
+			} else if (character <= 0x07FF) {
+				encodedLength += 2;
+			} else {
+				encodedLength += 3;
+			}
+		}
+		if (encodedLength > 0xFFFF) {
+			throw new UTFDataFormatException("Encoded string too long: " + encodedLength + " bytes");
+		}
+		require(2 + encodedLength);
+		buffer.putShort((short) encodedLength);
+		for (int i = 0; i < length; i++) {
+			char character = value.charAt(i);
+			if (character >= 0x0001 && character <= 0x007F) {
+				buffer.put((byte) character);
+			} else if (character <= 0x07FF) {
+				buffer.put((byte) (0xC0 | ((character >> 6) & 0x1F)));
+				buffer.put((byte) (0x80 | (character & 0x3F)));
+			} else {
+				buffer.put((byte) (0xE0 | ((character >> 12) & 0x0F)));
+				buffer.put((byte) (0x80 | ((character >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (character & 0x3F)));
+			}
+		}
+	}
+
+	private void require(int length) throws BufferOverflowException {
+		if (buffer.remaining() < length) {
+			if (!growable) {
+				throw new BufferOverflowException();
+			}
+			int capacity = buffer.capacity();
+			int newCapacity = Math.max(buffer.position() + length, capacity + (capacity >> 1) + 1);
+			ByteBuffer newBuffer = buffer.isDirect() ? ByteBuffer.allocateDirect(newCapacity) : ByteBuffer
+					.allocate(newCapacity);
+			buffer.flip();
+			newBuffer.put(buffer);
+			buffer = newBuffer;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ByteBufferDataOutput [position=" + buffer.position() + ", capacity=" + buffer.capacity() + "]";
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link Codec} writes values of a given type to a {@link DataOutput} and
+ * reads them back from a {@link DataInput}.
+ * 
+ * <p>
+ * Codecs for container classes, like {@link TupleCodec} or
+ * {@link OptionalCodec}, are composed of codecs for their components. Common
+ * component codecs are provided by {@link Codecs}. To write to or read from a
+ * {@link java.nio.ByteBuffer}, use a {@link ByteBufferDataOutput} or a
+ * {@link ByteBufferDataInput}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public interface Codec<Payload> {
+
+	/**
+	 * Writes the given value to the given {@link DataOutput}.
+	 * 
+	 * @param value
+	 *            The value to be written.
+	 * @param output
+	 *            The {@link DataOutput} to be written to.
+	 * @throws IOException
+	 *             If writing to the given {@link DataOutput} failed.
+	 */
+	public void encode(Payload value, DataOutput output) throws IOException;
+
+	/**
+	 * Reads a value from the given {@link DataInput}.
+	 * 
+	 * @param input
+	 *            The {@link DataInput} to be read from.
+	 * @return The value.
+	 * @throws IOException
+	 *             If reading from the given {@link DataInput} failed or if the
+	 *             read data is malformed.
+	 */
+	public Payload decode(DataInput input) throws IOException;
+
+}
@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * {@link Codecs} provides common {@link Codec Codecs} and the variable-length
+ * integer encoding used by them.
+ * 
+ * <p>
+ * Integers are written as varints: seven bits per byte, least significant
+ * group first, with the most significant bit of every byte set, if another
+ * byte follows. Signed integers are zigzag encoded first, so that numbers with
+ * a small absolute value are written in few bytes. The {@link Codec Codecs}
+ * provided as constants don't accept {@literal null}-values; use
+ * {@link Codecs#nullable(Codec)} to allow them.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class Codecs {
+
+	static final int TAG_ABSENT = 0;
+
+	static final int TAG_PRESENT = 1;
+
+	static final int TAG_LEFT = 0;
+
+	static final int TAG_RIGHT = 1;
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final int CHUNK_SIZE = 8192;
+
+	/**
+	 * A {@link Codec} that writes a {@link Boolean} as a single byte.
+	 */
+	public static final Codec<Boolean> BOOLEAN = new NonNullCodec<Boolean>() {
+
+		@Override
+		protected void doEncode(Boolean value, DataOutput output) throws IOException {
+			output.writeBoolean(value.booleanValue());
+		}
+
+		@Override
+		public Boolean decode(DataInput input) throws IOException {
+			return Boolean.valueOf(input.readBoolean());
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes an {@link Integer} as a zigzag encoded varint.
+	 */
+	public static final Codec<Integer> INTEGER = new NonNullCodec<Integer>() {
+
+		@Override
+		protected void doEncode(Integer value, DataOutput output) throws IOException {
+			writeSignedVarInt(value.intValue(), output);
+		}
+
+		@Override
+		public Integer decode(DataInput input) throws IOException {
+			return Integer.valueOf(readSignedVarInt(input));
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes a {@link Long} as a zigzag encoded varint.
+	 */
+	public static final Codec<Long> LONG = new NonNullCodec<Long>() {
+
+		@Override
+		protected void doEncode(Long value, DataOutput output) throws IOException {
+			writeSignedVarLong(value.longValue(), output);
+		}
+
+		@Override
+		public Long decode(DataInput input) throws IOException {
+			return Long.valueOf(readSignedVarLong(input));
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes a {@link Double} as eight bytes.
+	 */
+	public static final Codec<Double> DOUBLE = new NonNullCodec<Double>() {
+
+		@Override
+		protected void doEncode(Double value, DataOutput output) throws IOException {
+			output.writeDouble(value.doubleValue());
+		}
+
+		@Override
+		public Double decode(DataInput input) throws IOException {
+			return Double.valueOf(input.readDouble());
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes a {@link String} as the varint encoded length
+	 * of its UTF-8 representation, followed by its UTF-8 representation.
+	 */
+	public static final Codec<String> STRING = new NonNullCodec<String>() {
+
+		@Override
+		protected void doEncode(String value, DataOutput output) throws IOException {
+			byte[] bytes = value.getBytes(UTF_8);
+			writeVarInt(bytes.length, output);
+			output.write(bytes);
+		}
+
+		@Override
+		public String decode(DataInput input) throws IOException {
+			return new String(readBytes(input, readLength(input)), UTF_8);
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes the remaining bytes of a {@link ByteBuffer} as
+	 * their varint encoded number, followed by the bytes themselves. When
+	 * reading from a {@link ByteBufferDataInput}, the returned
+	 * {@link ByteBuffer} is a read-only view of the underlying
+	 * {@link ByteBuffer} and no bytes are copied.
+	 */
+	public static final Codec<ByteBuffer> BYTE_BUFFER = new NonNullCodec<ByteBuffer>() {
+
+		@Override
+		protected void doEncode(ByteBuffer value, DataOutput output) throws IOException {
+			ByteBuffer bytes = value.duplicate();
+			writeVarInt(bytes.remaining(), output);
+			if (output instanceof ByteBufferDataOutput) {
+				((ByteBufferDataOutput) output).write(bytes);
+			} else if (bytes.hasArray()) {
+				output.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+			} else {
+				byte[] array = new byte[bytes.remaining()];
+				bytes.get(array);
+				output.write(array);
+			}
+		}
+
+		@Override
+		public ByteBuffer decode(DataInput input) throws IOException {
+			int length = readLength(input);
+			if (input instanceof ByteBufferDataInput) {
+				return ((ByteBufferDataInput) input).readSlice(length);
+			}
+			return ByteBuffer.wrap(readBytes(input, length));
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes an {@link OptionalInt} as a one-byte tag,
+	 * followed by the zigzag encoded varint value, if present.
+	 */
+	public static final Codec<OptionalInt> OPTIONAL_INT = new NonNullCodec<OptionalInt>() {
+
+		@Override
+		protected void doEncode(OptionalInt value, DataOutput output) throws IOException {
+			if (value.hasValue()) {
+				output.writeByte(TAG_PRESENT);
+				writeSignedVarInt(value.getValue(), output);
+			} else {
+				output.writeByte(TAG_ABSENT);
+			}
+		}
+
+		@Override
+		public OptionalInt decode(DataInput input) throws IOException {
+			if (TAG_PRESENT == readTag(input)) {
+				return OptionalInt.of(readSignedVarInt(input));
+			} else {
+				return OptionalInt.empty();
+			}
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes an {@link OptionalLong} as a one-byte tag,
+	 * followed by the zigzag encoded varint value, if present.
+	 */
+	public static final Codec<OptionalLong> OPTIONAL_LONG = new NonNullCodec<OptionalLong>() {
+
+		@Override
+		protected void doEncode(OptionalLong value, DataOutput output) throws IOException {
+			if (value.hasValue()) {
+				output.writeByte(TAG_PRESENT);
+				writeSignedVarLong(value.getValue(), output);
+			} else {
+				output.writeByte(TAG_ABSENT);
+			}
+		}
+
+		@Override
+		public OptionalLong decode(DataInput input) throws IOException {
+			if (TAG_PRESENT == readTag(input)) {
+				return OptionalLong.of(readSignedVarLong(input));
+			} else {
+				return OptionalLong.empty();
+			}
+		}
+
+	};
+
+	/**
+	 * A {@link Codec} that writes an {@link OptionalDouble} as a one-byte tag,
+	 * followed by the eight byte value, if present.
+	 */
+	public static final Codec<OptionalDouble> OPTIONAL_DOUBLE = new NonNullCodec<OptionalDouble>() {
+
+		@Override
+		protected void doEncode(OptionalDouble value, DataOutput output) throws IOException {
+			if (value.hasValue()) {
+				output.writeByte(TAG_PRESENT);
+				output.writeDouble(value.getValue());
+			} else {
+				output.writeByte(TAG_ABSENT);
+			}
+		}
+
+		@Override
+		public OptionalDouble decode(DataInput input) throws IOException {
+			if (TAG_PRESENT == readTag(input)) {
+				return OptionalDouble.of(input.readDouble());
+			} else {
+				return OptionalDouble.empty();
+			}
+		}
+
+	};
+
+	private Codecs() {
+	}
+
+	/**
+	 * Returns a {@link Codec} that writes a one-byte tag, followed by the value
+	 * written with the given {@link Codec}, if the value is not
+	 * {@literal null}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param codec
+	 *            The {@link Codec} to be used for values that are not
+	 *            {@literal null}.
+	 * @return The {@link Codec} that accepts {@literal null}-values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Codec} is {@literal null}.
+	 */
+	public static <Payload> Codec<Payload> nullable(final Codec<Payload> codec) throws IllegalArgumentException {
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		return new Codec<Payload>() {
+
+			@Override
+			public void encode(Payload value, DataOutput output) throws IOException {
+				if (null == value) {
+					output.writeByte(TAG_ABSENT);
+				} else {
+					output.writeByte(TAG_PRESENT);
+					codec.encode(value, output);
+				}
+			}
+
+			@Override
+			public Payload decode(DataInput input) throws IOException {
+				return TAG_PRESENT == readTag(input) ? codec.decode(input) : null;
+			}
+
+		};
+	}
+
+	/**
+	 * Writes the given value with the given {@link Codec} into a newly
+	 * allocated heap {@link ByteBuffer}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param codec
+	 *            The {@link Codec} to be used.
+	 * @param value
+	 *            The value to be written.
+	 * @return The {@link ByteBuffer}, ready to be read.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Codec} is {@literal null}.
+	 * @throws IOException
+	 *             If the given {@link Codec} failed to write the given value.
+	 */
+	public static <Payload> ByteBuffer encode(Codec<? super Payload> codec, Payload value)
+			throws IllegalArgumentException, IOException {
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		ByteBufferDataOutput output = new ByteBufferDataOutput();
+		codec.encode(value, output);
+		ByteBuffer buffer = output.getBuffer();
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Reads a value with the given {@link Codec} from the remaining bytes of the
+	 * given {@link ByteBuffer}, without modifying its position.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param codec
+	 *            The {@link Codec} to be used.
+	 * @param buffer
+	 *            The {@link ByteBuffer} to be read from.
+	 * @return The value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Codec} or the given {@link ByteBuffer}
+	 *             is {@literal null}.
+	 * @throws IOException
+	 *             If the given {@link Codec} failed to read a value.
+	 */
+	public static <Payload> Payload decode(Codec<? extends Payload> codec, ByteBuffer buffer)
+			throws IllegalArgumentException, IOException {
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		return codec.decode(new ByteBufferDataInput(buffer));
+	}
+
+	/**
+	 * Writes the given value as an unsigned varint.
+	 * 
+	 * @param value
+	 *            The value to be written.
+	 * @param output
+	 *            The {@link DataOutput} to be written to.
+	 * @throws IOException
+	 *             If writing to the given {@link DataOutput} failed.
+	 */
+	public static void writeVarInt(int value, DataOutput output) throws IOException {
+		while (0 != (value & ~0x7F)) {
+			output.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.writeByte(value);
+	}
+
+	/**
+	 * Reads an unsigned varint.
+	 * 
+	 * @param input
+	 *            The {@link DataInput} to be read from.
+	 * @return The value.
+	 * @throws IOException
+	 *             If reading from the given {@link DataInput} failed or if the
+	 *             varint is longer than five bytes.
+	 */
+	public static int readVarInt(DataInput input) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int current = input.readByte();
+			value |= (current & 0x7F) << shift;
+			if (0 == (current & 0x80)) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	/**
+	 * Writes the given value as a zigzag encoded varint.
+	 * 
+	 * @param value
+	 *            The value to be written.
+	 * @param output
+	 *            The {@link DataOutput} to be written to.
+	 * @throws IOException
+	 *             If writing to the given {@link DataOutput} failed.
+	 */
+	public static void writeSignedVarInt(int value, DataOutput output) throws IOException {
+		writeVarInt((value << 1) ^ (value >> 31), output);
+	}
+
+	/**
+	 * Reads a zigzag encoded varint.
+	 * 
+	 * @param input
+	 *            The {@link DataInput} to be read from.
+	 * @return The value.
+	 * @throws IOException
+	 *             If reading from the given {@link DataInput} failed or if the
+	 *             varint is longer than five bytes.
+	 */
+	public static int readSignedVarInt(DataInput input) throws IOException {
+		int value = readVarInt(input);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Writes the given value as an unsigned varint.
+	 * 
+	 * @param value
+	 *            The value to be written.
+	 * @param output
+	 *            The {@link DataOutput} to be written to.
+	 * @throws IOException
+	 *             If writing to the given {@link DataOutput} failed.
+	 */
+	public static void writeVarLong(long value, DataOutput output) throws IOException {
+		while (0 != (value & ~0x7FL)) {
+			output.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		output.writeByte((int) value);
+	}
+
+	/**
+	 * Reads an unsigned varint.
+	 * 
+	 * @param input
+	 *            The {@link DataInput} to be read from.
+	 * @return The value.
+	 * @throws IOException
+	 *             If reading from the given {@link DataInput} failed or if the
+	 *             varint is longer than ten bytes.
+	 */
+	public static long readVarLong(DataInput input) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 70; shift += 7) {
+			int current = input.readByte();
+			value |= (long) (current & 0x7F) << shift;
+			if (0 == (current & 0x80)) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	/**
+	 * Writes the given value as a zigzag encoded varint.
+	 * 
+	 * @param value
+	 *            The value to be written.
+	 * @param output
+	 *            The {@link DataOutput} to be written to.
+	 * @throws IOException
+	 *             If writing to the given {@link DataOutput} failed.
+	 */
+	public static void writeSignedVarLong(long value, DataOutput output) throws IOException {
+		writeVarLong((value << 1) ^ (value >> 63), output);
+	}
+
+	/**
+	 * Reads a zigzag encoded varint.
+	 * 
+	 * @param input
+	 *            The {@link DataInput} to be read from.
+	 * @return The value.
+	 * @throws IOException
+	 *             If reading from the given {@link DataInput} failed or if the
+	 *             varint is longer than ten bytes.
+	 */
+	public static long readSignedVarLong(DataInput input) throws IOException {
+		long value = readVarLong(input);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	static int readTag(DataInput input) throws IOException {
+		int tag = input.readUnsignedByte();
+		if (tag > 1) {
+			throw new StreamCorruptedException("Invalid tag: " + tag);
+		}
+		return tag;
+	}
+
+	private static int readLength(DataInput input) throws IOException {
+		int length = readVarInt(input);
+		if (length < 0) {
+			throw new StreamCorruptedException("Invalid length: " + length);
+		}
+		return length;
+	}
+
+	private static byte[] readBytes(DataInput input, int length) throws IOException {
+		if (input instanceof ByteBufferDataInput) {
+			if (length > ((ByteBufferDataInput) input).getRemaining()) {
+				throw new EOFException("Invalid length: " + length);
+			}
+		} else if (length > CHUNK_SIZE) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream(CHUNK_SIZE);
+			byte[] chunk = new byte[CHUNK_SIZE];
+			for (int remaining = length; remaining > 0; remaining -= CHUNK_SIZE) {
+				int chunkLength = Math.min(remaining, CHUNK_SIZE);
+				input.readFully(chunk, 0, chunkLength);
+				output.write(chunk, 0, chunkLength);
+			}
+			return output.toByteArray();
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return bytes;
+	}
+
+	private static abstract class NonNullCodec<Payload> implements Codec<Payload> {
+
+		@Override
+		public final void encode(Payload value, DataOutput output) throws IOException {
+			if (null == value) {
+				throw new IllegalArgumentException("The given value is null");
+			}
+			doEncode(value, output);
+		}
+
+		protected abstract void doEncode(Payload value, DataOutput output) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A {@link ColumnStorage} stores a fixed number of components per element in
+ * parallel arrays (one array per component). It is the backing storage of
+ * {@link TupleArray} and {@link TripleArray}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+final class ColumnStorage {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	Object[][] columns;
+
+	int size;
+
+	ColumnStorage(int numberOfColumns, int initialCapacity) throws IllegalArgumentException {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("The given initial capacity is negative");
+		}
+		columns = new Object[numberOfColumns][initialCapacity];
+	}
+
+	ColumnStorage(int numberOfColumns) {
+		this(numberOfColumns, DEFAULT_CAPACITY);
+	}
+
+	int append() {
+		int capacity = columns[0].length;
+		if (size == capacity) {
+			int newCapacity = Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+			for (int i = 0; i < columns.length; i++) {
+				columns[i] = Arrays.copyOf(columns[i], newCapacity);
+			}
+		}
+		return size++;
+	}
+
+	void checkIndex(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	void clear() {
+		for (Object[] column : columns) {
+			Arrays.fill(column, 0, size, null);
+		}
+		size = 0;
+	}
+
+	<Component> void sort(int column, Comparator<? super Component> comparator) throws IllegalArgumentException {
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		}
+		sort(column, comparator, 0, size - 1);
+	}
+
+	private <Component> void sort(int column, Comparator<? super Component> comparator, int low, int high) {
+		while (high - low >= INSERTION_SORT_THRESHOLD) {
+			int pivot = partition(column, comparator, low, high);
+			if (pivot - low < high - pivot) {
+				sort(column, comparator, low, pivot - 1);
+				low = pivot + 1;
+			} else {
+				sort(column, comparator, pivot + 1, high);
+				high = pivot - 1;
+			}
+		}
+		for (int i = low + 1; i <= high; i++) {
+			for (int j = i; j > low && compare(column, comparator, j - 1, j) > 0; j--) {
+				swap(j - 1, j);
+			}
+		}
+	}
+
+	private <Component> int partition(int column, Comparator<? super Component> comparator, int low, int high) {
+		int middle = (low + high) >>> 1;
+		if (compare(column, comparator, middle, low) < 0) {
+			swap(middle, low);
+		}
+		if (compare(column, comparator, high, low) < 0) {
+			swap(high, low);
+		}
+		if (compare(column, comparator, high, middle) < 0) {
+			swap(high, middle);
+		}
+		swap(middle, high - 1);
+		int pivot = high - 1;
+		int i = low;
+		int j = high - 1;
+		while (true) {
+			while (compare(column, comparator, ++i, pivot) < 0) {
+			}
+			while (compare(column, comparator, --j, pivot) > 0) {
+			}
+			if (i >= j) {
+				break;
+			}
+			swap(i, j);
+		}
+		swap(i, high - 1);
+		return i;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <Component> int compare(int column, Comparator<? super Component> comparator, int i, int j) {
+		Object[] values = columns[column];
+		return comparator.compare((Component) values[i], (Component) values[j]);
+	}
+
+	private void swap(int i, int j) {
+		for (Object[] column : columns) {
+			Object value = column[i];
+			column[i] = column[j];
+			column[j] = value;
+		}
+	}
+
+}
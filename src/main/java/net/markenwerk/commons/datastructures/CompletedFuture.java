@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link CompletedFuture} is a {@link Future} that is already completed with
+ * a given result and can't be cancelled.
+ * 
+ * @param <Result>
+ *            The result type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+final class CompletedFuture<Result> implements Future<Result> {
+
+	private static final CompletedFuture<?> NULL = new CompletedFuture<Object>(null, null);
+
+	private static final CompletedFuture<?> EMPTY = new CompletedFuture<Object>(Optional.empty(), null);
+
+	private final Result result;
+
+	private final Throwable failure;
+
+	private CompletedFuture(Result result, Throwable failure) {
+		this.result = result;
+		this.failure = failure;
+	}
+
+	/**
+	 * Returns a {@link CompletedFuture} with the given result. Shared instances
+	 * are returned for {@literal null} and for {@link Optional#empty()}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <Result> CompletedFuture<Result> of(Result result) {
+		if (null == result) {
+			return (CompletedFuture<Result>) NULL;
+		} else if (Optional.empty() == result) {
+			return (CompletedFuture<Result>) EMPTY;
+		} else {
+			return new CompletedFuture<Result>(result, null);
+		}
+	}
+
+	static <Result> CompletedFuture<Result> failed(Throwable failure) {
+		return new CompletedFuture<Result>(null, failure);
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		return false;
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return false;
+	}
+
+	@Override
+	public boolean isDone() {
+		return true;
+	}
+
+	@Override
+	public Result get() throws ExecutionException {
+		if (null != failure) {
+			throw new ExecutionException(failure);
+		}
+		return result;
+	}
+
+	@Override
+	public Result get(long timeout, TimeUnit unit) throws ExecutionException {
+		return get();
+	}
+
+	@Override
+	public String toString() {
+		return null == failure ? "CompletedFuture [result=" + result + "]" : "CompletedFuture [failure=" + failure
+				+ "]";
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import net.markenwerk.commons.interfaces.Converter;
+
+/**
+ * A {@link ConvertingOptionalPipeline} is an {@link OptionalSelection} that
+ * fuses a chain of {@link Converter Converters} into a single selection. It
+ * applies the {@link Converter Converters} in order and only creates the final
+ * {@link Optional}, without any intermediate {@link Optional Optionals} or
+ * selections.
+ * 
+ * <p>
+ * A {@link ConvertingOptionalPipeline} stops at the first {@link Converter}
+ * that returns {@literal null}, skips all remaining {@link Converter
+ * Converters} and returns an {@link Optional#empty() empty} {@link Optional}.
+ * 
+ * <p>
+ * A {@link ConvertingOptionalPipeline} is immutable. Every call to
+ * {@link ConvertingOptionalPipeline#then(Converter)} returns a new
+ * {@link ConvertingOptionalPipeline} and leaves the original unchanged, so that
+ * a {@link ConvertingOptionalPipeline} can be built once and used from multiple
+ * threads, as long as the used {@link Converter Converters} are thread-safe.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @param <Result>
+ *            The result type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class ConvertingOptionalPipeline<Payload, Result> implements
+		OptionalSelection<Payload, Optional<Result>> {
+
+	private final Converter<Object, Object>[] converters;
+
+	private ConvertingOptionalPipeline(Converter<Object, Object>[] converters) {
+		this.converters = converters;
+	}
+
+	/**
+	 * Creates a new {@link ConvertingOptionalPipeline} that consists of the
+	 * given {@link Converter}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param <Result>
+	 *            The result type.
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @return The new {@link ConvertingOptionalPipeline}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static <Payload, Result> ConvertingOptionalPipeline<Payload, Result> of(
+			Converter<? super Payload, ? extends Result> converter) throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		return new ConvertingOptionalPipeline<Payload, Result>(new Converter[] { converter });
+	}
+
+	/**
+	 * Creates a new {@link ConvertingOptionalPipeline} that consists of the
+	 * {@link Converter Converters} of this {@link ConvertingOptionalPipeline},
+	 * followed by the given {@link Converter}.
+	 * 
+	 * @param <Next>
+	 *            The result type of the new {@link ConvertingOptionalPipeline}.
+	 * @param converter
+	 *            The {@link Converter} to be appended.
+	 * @return The new {@link ConvertingOptionalPipeline}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public <Next> ConvertingOptionalPipeline<Payload, Next> then(Converter<? super Result, ? extends Next> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		Converter<Object, Object>[] converters = new Converter[this.converters.length + 1];
+		System.arraycopy(this.converters, 0, converters, 0, this.converters.length);
+		converters[this.converters.length] = (Converter<Object, Object>) converter;
+		return new ConvertingOptionalPipeline<Payload, Next>(converters);
+	}
+
+	/**
+	 * Returns the number of {@link Converter Converters} in this
+	 * {@link ConvertingOptionalPipeline}.
+	 * 
+	 * @return The number of {@link Converter Converters}.
+	 */
+	public int size() {
+		return converters.length;
+	}
+
+	@Override
+	public Optional<Result> onNoValue() {
+		return Optional.empty();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<Result> onValue(Payload payload) {
+		Object value = payload;
+		for (Converter<Object, Object> converter : converters) {
+			value = converter.convert(value);
+			if (null == value) {
+				return Optional.empty();
+			}
+		}
+		return Optional.of((Result) value);
+	}
+
+	@Override
+	public String toString() {
+		return "ConvertingOptionalPipeline [size=" + converters.length + "]";
+	}
+
+}
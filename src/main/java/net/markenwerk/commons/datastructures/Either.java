@@ -21,6 +21,8 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import net.markenwerk.commons.interfaces.Converter;
+
 /**
  * An {@link Either} is one of two distinct simple immutable container class
  * that holds a single value.
@@ -83,4 +85,89 @@ public abstract class Either<Left, Right> {
 	 */
 	public abstract Right getRight() throws IllegalStateException;
 
+	/**
+	 * Converts the value of this {@link Either} with the {@link Converter} that
+	 * corresponds to the side of this {@link Either}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param leftConverter
+	 *            The {@link Converter} to be used, if this {@link Either} is a
+	 *            {@link net.markenwerk.commons.datastructures.Left}
+	 *            {@link Either}.
+	 * @param rightConverter
+	 *            The {@link Converter} to be used, if this {@link Either} is a
+	 *            {@link net.markenwerk.commons.datastructures.Right}
+	 *            {@link Either}.
+	 * @return The converted value.
+	 * @throws IllegalArgumentException
+	 *             If one of the given {@link Converter Converters} is
+	 *             {@literal null}.
+	 * @since 1.4.0
+	 */
+	public abstract <Result> Result fold(Converter<? super Left, ? extends Result> leftConverter,
+			Converter<? super Right, ? extends Result> rightConverter) throws IllegalArgumentException;
+
+	/**
+	 * Converts the value of this {@link Either} with the given
+	 * {@link Converter}, if it is a
+	 * {@link net.markenwerk.commons.datastructures.Left} {@link Either}.
+	 * Returns this {@link Either}, if it is a
+	 * {@link net.markenwerk.commons.datastructures.Right} {@link Either} or if
+	 * the given {@link Converter} returns the value of this {@link Either}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @return An {@link Either} with the converted value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null}.
+	 * @since 1.4.0
+	 */
+	public abstract <Result> Either<Result, Right> mapLeft(Converter<? super Left, ? extends Result> converter)
+			throws IllegalArgumentException;
+
+	/**
+	 * Converts the value of this {@link Either} with the given
+	 * {@link Converter}, if it is a
+	 * {@link net.markenwerk.commons.datastructures.Right} {@link Either}.
+	 * Returns this {@link Either}, if it is a
+	 * {@link net.markenwerk.commons.datastructures.Left} {@link Either} or if
+	 * the given {@link Converter} returns the value of this {@link Either}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @return An {@link Either} with the converted value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null}.
+	 * @since 1.4.0
+	 */
+	public abstract <Result> Either<Left, Result> mapRight(Converter<? super Right, ? extends Result> converter)
+			throws IllegalArgumentException;
+
+	/**
+	 * Returns the {@link Either} that the given {@link Converter} returns for
+	 * the value of this {@link Either}, if it is a
+	 * {@link net.markenwerk.commons.datastructures.Right} {@link Either}.
+	 * Returns this {@link Either}, if it is a
+	 * {@link net.markenwerk.commons.datastructures.Left} {@link Either}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @return The {@link Either} returned by the given {@link Converter} or
+	 *         this {@link Either}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null} or returns
+	 *             {@literal null}.
+	 * @since 1.4.0
+	 */
+	public abstract <Result> Either<Left, Result> flatMap(
+			Converter<? super Right, ? extends Either<? extends Left, ? extends Result>> converter)
+			throws IllegalArgumentException;
+
 }
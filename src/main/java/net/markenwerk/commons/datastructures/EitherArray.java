@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * An {@link EitherArray} is a growable array of {@link Either Eithers} that
+ * doesn't store {@link net.markenwerk.commons.datastructures.Left} or
+ * {@link net.markenwerk.commons.datastructures.Right} objects. The values are
+ * stored in a single array and the side of every element is stored as one bit
+ * in a bitmap, so that the number of left and right elements can be counted
+ * without inspecting the values.
+ * 
+ * @param <Left>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Left}
+ *            {@link Either}.
+ * @param <Right>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Right}
+ *            {@link Either}.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@SuppressWarnings("hiding")
+public final class EitherArray<Left, Right> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] values;
+
+	private long[] lefts;
+
+	private int size;
+
+	/**
+	 * Creates a new {@link EitherArray}.
+	 */
+	public EitherArray() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link EitherArray}.
+	 * 
+	 * @param initialCapacity
+	 *            The initial capacity.
+	 * @throws IllegalArgumentException
+	 *             If the given initial capacity is negative.
+	 */
+	public EitherArray(int initialCapacity) throws IllegalArgumentException {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("The given initial capacity is negative");
+		}
+		values = new Object[initialCapacity];
+		lefts = new long[(initialCapacity + 63) >>> 6];
+	}
+
+	/**
+	 * Returns the number of elements in this {@link EitherArray}.
+	 * 
+	 * @return The number of elements.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether this {@link EitherArray} is empty.
+	 * 
+	 * @return Whether this {@link EitherArray} is empty.
+	 */
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * Removes all elements from this {@link EitherArray}.
+	 */
+	public void clear() {
+		Arrays.fill(values, 0, size, null);
+		Arrays.fill(lefts, 0, (size + 63) >>> 6, 0L);
+		size = 0;
+	}
+
+	/**
+	 * Appends a left element with the given value.
+	 * 
+	 * @param value
+	 *            The left value to be used.
+	 */
+	public void addLeft(Left value) {
+		int index = append();
+		values[index] = value;
+		lefts[index >>> 6] |= 1L << index;
+	}
+
+	/**
+	 * Appends a right element with the given value.
+	 * 
+	 * @param value
+	 *            The right value to be used.
+	 */
+	public void addRight(Right value) {
+		int index = append();
+		values[index] = value;
+	}
+
+	/**
+	 * Appends an element with the value of the given {@link Either}.
+	 * 
+	 * @param either
+	 *            The {@link Either} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Either} is {@literal null}.
+	 */
+	public void add(Either<? extends Left, ? extends Right> either) throws IllegalArgumentException {
+		if (null == either) {
+			throw new IllegalArgumentException("The given either is null");
+		}
+		if (either.isLeft()) {
+			addLeft(either.getLeft());
+		} else {
+			addRight(either.getRight());
+		}
+	}
+
+	/**
+	 * Replaces the element at the given index with a left element with the
+	 * given value.
+	 * 
+	 * @param index
+	 *            The index of the element to be replaced.
+	 * @param value
+	 *            The left value to be used.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public void setLeft(int index, Left value) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		values[index] = value;
+		lefts[index >>> 6] |= 1L << index;
+	}
+
+	/**
+	 * Replaces the element at the given index with a right element with the
+	 * given value.
+	 * 
+	 * @param index
+	 *            The index of the element to be replaced.
+	 * @param value
+	 *            The right value to be used.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public void setRight(int index, Right value) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		values[index] = value;
+		lefts[index >>> 6] &= ~(1L << index);
+	}
+
+	/**
+	 * Returns whether the element at the given index is a left element.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return Whether the element is a left element.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public boolean isLeft(int index) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		return isLeftUnchecked(index);
+	}
+
+	/**
+	 * Returns whether the element at the given index is a right element.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return Whether the element is a right element.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public boolean isRight(int index) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		return !isLeftUnchecked(index);
+	}
+
+	/**
+	 * Returns the value of the left element at the given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return The left value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 * @throws IllegalStateException
+	 *             If the element at the given index is a right element.
+	 */
+	@SuppressWarnings("unchecked")
+	public Left getLeft(int index) throws IndexOutOfBoundsException, IllegalStateException {
+		checkIndex(index);
+		if (!isLeftUnchecked(index)) {
+			throw new IllegalStateException("Right has no left value.");
+		}
+		return (Left) values[index];
+	}
+
+	/**
+	 * Returns the value of the right element at the given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return The right value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 * @throws IllegalStateException
+	 *             If the element at the given index is a left element.
+	 */
+	@SuppressWarnings("unchecked")
+	public Right getRight(int index) throws IndexOutOfBoundsException, IllegalStateException {
+		checkIndex(index);
+		if (isLeftUnchecked(index)) {
+			throw new IllegalStateException("Left has no right value.");
+		}
+		return (Right) values[index];
+	}
+
+	/**
+	 * Returns the element at the given index as an {@link Either}, which may
+	 * be a shared instance.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return The {@link Either}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	@SuppressWarnings("unchecked")
+	public Either<Left, Right> get(int index) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		if (isLeftUnchecked(index)) {
+			return net.markenwerk.commons.datastructures.Left.<Left, Right> of((Left) values[index]);
+		} else {
+			return net.markenwerk.commons.datastructures.Right.<Left, Right> of((Right) values[index]);
+		}
+	}
+
+	/**
+	 * Returns the number of left elements in this {@link EitherArray}.
+	 * 
+	 * @return The number of left elements.
+	 */
+	public int countLefts() {
+		int count = 0;
+		int words = (size + 63) >>> 6;
+		for (int i = 0; i < words; i++) {
+			count += Long.bitCount(lefts[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of right elements in this {@link EitherArray}.
+	 * 
+	 * @return The number of right elements.
+	 */
+	public int countRights() {
+		return size - countLefts();
+	}
+
+	private boolean isLeftUnchecked(int index) {
+		return 0 != (lefts[index >>> 6] & (1L << index));
+	}
+
+	private int append() {
+		int capacity = values.length;
+		if (size == capacity) {
+			int newCapacity = Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+			values = Arrays.copyOf(values, newCapacity);
+			lefts = Arrays.copyOf(lefts, (newCapacity + 63) >>> 6);
+		}
+		return size++;
+	}
+
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("EitherArray [");
+		for (int i = 0; i < size; i++) {
+			if (0 != i) {
+				builder.append(", ");
+			}
+			builder.append(isLeftUnchecked(i) ? "Left(" : "Right(").append(values[i]).append(")");
+		}
+		return builder.append("]").toString();
+	}
+
+}
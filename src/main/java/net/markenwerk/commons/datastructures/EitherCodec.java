@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link EitherCodec} is a {@link Codec} for {@link Either Eithers} that
+ * writes a one-byte tag for the side of the {@link Either}, followed by its
+ * value written with the corresponding component {@link Codec}.
+ * 
+ * @param <Left>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Left}
+ *            {@link Either}.
+ * @param <Right>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Right}
+ *            {@link Either}.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@SuppressWarnings("hiding")
+public final class EitherCodec<Left, Right> implements Codec<Either<Left, Right>> {
+
+	private final Codec<Left> leftCodec;
+
+	private final Codec<Right> rightCodec;
+
+	/**
+	 * Creates a new {@link EitherCodec}.
+	 * 
+	 * @param leftCodec
+	 *            The {@link Codec} to be used for left values.
+	 * @param rightCodec
+	 *            The {@link Codec} to be used for right values.
+	 * @throws IllegalArgumentException
+	 *             If one of the given {@link Codec Codecs} is {@literal null}.
+	 */
+	public EitherCodec(Codec<Left> leftCodec, Codec<Right> rightCodec) throws IllegalArgumentException {
+		if (null == leftCodec) {
+			throw new IllegalArgumentException("The given left codec is null");
+		}
+		if (null == rightCodec) {
+			throw new IllegalArgumentException("The given right codec is null");
+		}
+		this.leftCodec = leftCodec;
+		this.rightCodec = rightCodec;
+	}
+
+	@Override
+	public void encode(Either<Left, Right> value, DataOutput output) throws IOException {
+		if (null == value) {
+			throw new IllegalArgumentException("The given value is null");
+		}
+		if (value.isLeft()) {
+			output.writeByte(Codecs.TAG_LEFT);
+			leftCodec.encode(value.getLeft(), output);
+		} else {
+			output.writeByte(Codecs.TAG_RIGHT);
+			rightCodec.encode(value.getRight(), output);
+		}
+	}
+
+	@Override
+	public Either<Left, Right> decode(DataInput input) throws IOException {
+		if (Codecs.TAG_LEFT == Codecs.readTag(input)) {
+			return net.markenwerk.commons.datastructures.Left.<Left, Right> of(leftCodec.decode(input));
+		} else {
+			return net.markenwerk.commons.datastructures.Right.<Left, Right> of(rightCodec.decode(input));
+		}
+	}
+
+}
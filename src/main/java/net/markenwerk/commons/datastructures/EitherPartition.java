@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An {@link EitherPartition} splits {@link Either Eithers} into their left
+ * values and their right values.
+ * 
+ * <p>
+ * All values are stored in a single array. Left values are stored from the
+ * start and right values are stored from the end of that array, so that an
+ * {@link EitherPartition} that has been created with the number of expected
+ * {@link Either Eithers} never needs to grow or copy its values.
+ * 
+ * <p>
+ * {@link EitherPartition#add(Either)} and
+ * {@link EitherPartition#addAll(EitherPartition)} are suitable as the
+ * accumulator and the combiner of a {@code java.util.stream.Collector}, e.g.
+ * {@code Collector.of(EitherPartition::new, EitherPartition::add, (a, b) -> a.addAll(b))}
+ * . An {@link EitherPartition} is not thread-safe.
+ * 
+ * @param <Left>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Left}
+ *            {@link Either}.
+ * @param <Right>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Right}
+ *            {@link Either}.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@SuppressWarnings("hiding")
+public final class EitherPartition<Left, Right> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] values;
+
+	private int leftCount;
+
+	private int rightCount;
+
+	/**
+	 * Creates a new {@link EitherPartition}.
+	 */
+	public EitherPartition() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link EitherPartition}.
+	 * 
+	 * @param expectedSize
+	 *            The expected number of {@link Either Eithers}.
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative.
+	 */
+	public EitherPartition(int expectedSize) throws IllegalArgumentException {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The given expected size is negative");
+		}
+		values = new Object[expectedSize];
+	}
+
+	/**
+	 * Adds the value of the given {@link Either} to the left values or to the
+	 * right values of this {@link EitherPartition}.
+	 * 
+	 * @param either
+	 *            The {@link Either} to be added.
+	 * @return This {@link EitherPartition}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Either} is {@literal null}.
+	 */
+	public EitherPartition<Left, Right> add(Either<? extends Left, ? extends Right> either)
+			throws IllegalArgumentException {
+		if (null == either) {
+			throw new IllegalArgumentException("The given either is null");
+		}
+		ensureCapacity(leftCount + rightCount + 1);
+		if (either.isLeft()) {
+			values[leftCount++] = either.getLeft();
+		} else {
+			values[values.length - ++rightCount] = either.getRight();
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the left values and the right values of the given
+	 * {@link EitherPartition} to this {@link EitherPartition}, after the
+	 * values that have already been added.
+	 * 
+	 * @param partition
+	 *            The {@link EitherPartition} to be added.
+	 * @return This {@link EitherPartition}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link EitherPartition} is {@literal null}.
+	 */
+	public EitherPartition<Left, Right> addAll(EitherPartition<? extends Left, ? extends Right> partition)
+			throws IllegalArgumentException {
+		if (null == partition) {
+			throw new IllegalArgumentException("The given partition is null");
+		}
+		int otherLeftCount = partition.leftCount;
+		int otherRightCount = partition.rightCount;
+		ensureCapacity(leftCount + rightCount + otherLeftCount + otherRightCount);
+		System.arraycopy(partition.values, 0, values, leftCount, otherLeftCount);
+		leftCount += otherLeftCount;
+		rightCount += otherRightCount;
+		System.arraycopy(partition.values, partition.values.length - otherRightCount, values, values.length
+				- rightCount, otherRightCount);
+		return this;
+	}
+
+	/**
+	 * Returns the number of left values.
+	 * 
+	 * @return The number of left values.
+	 */
+	public int getLeftCount() {
+		return leftCount;
+	}
+
+	/**
+	 * Returns the number of right values.
+	 * 
+	 * @return The number of right values.
+	 */
+	public int getRightCount() {
+		return rightCount;
+	}
+
+	/**
+	 * Returns an unmodifiable view of the left values, in the order they have
+	 * been added. The returned {@link List} reflects subsequently added values.
+	 * 
+	 * @return The left values.
+	 */
+	public List<Left> getLefts() {
+		return new Lefts();
+	}
+
+	/**
+	 * Returns an unmodifiable view of the right values, in the order they have
+	 * been added. The returned {@link List} reflects subsequently added values.
+	 * 
+	 * @return The right values.
+	 */
+	public List<Right> getRights() {
+		return new Rights();
+	}
+
+	private void ensureCapacity(int capacity) {
+		int length = values.length;
+		if (capacity > length) {
+			int newLength = Math.max(capacity, length + (length >> 1) + 1);
+			Object[] newValues = new Object[newLength];
+			System.arraycopy(values, 0, newValues, 0, leftCount);
+			System.arraycopy(values, length - rightCount, newValues, newLength - rightCount, rightCount);
+			values = newValues;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "EitherPartition [lefts=" + getLefts() + ", rights=" + getRights() + "]";
+	}
+
+	private final class Lefts extends AbstractList<Left> implements RandomAccess {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Left get(int index) {
+			if (index < 0 || index >= leftCount) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+			}
+			return (Left) values[index];
+		}
+
+		@Override
+		public int size() {
+			return leftCount;
+		}
+
+	}
+
+	private final class Rights extends AbstractList<Right> implements RandomAccess {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Right get(int index) {
+			if (index < 0 || index >= rightCount) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+			}
+			return (Right) values[values.length - 1 - index];
+		}
+
+		@Override
+		public int size() {
+			return rightCount;
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link EitherSequence} turns {@link Either Eithers} into a single
+ * {@link Either} that holds either the first left value or the list of all
+ * right values.
+ * 
+ * <p>
+ * Once a left value has been added, all right values are discarded and all
+ * subsequently added {@link Either Eithers} are ignored, so that callers can
+ * check {@link EitherSequence#hasLeft()} and stop early.
+ * 
+ * <p>
+ * {@link EitherSequence#add(Either)}, {@link EitherSequence#addAll(EitherSequence)}
+ * and {@link EitherSequence#toEither()} are suitable as the accumulator, the
+ * combiner and the finisher of a {@code java.util.stream.Collector}, e.g.
+ * {@code Collector.of(EitherSequence::new, EitherSequence::add, (a, b) -> a.addAll(b), EitherSequence::toEither)}
+ * . An {@link EitherSequence} is not thread-safe.
+ * 
+ * @param <Left>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Left}
+ *            {@link Either}.
+ * @param <Right>
+ *            The type of a {@link net.markenwerk.commons.datastructures.Right}
+ *            {@link Either}.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+@SuppressWarnings("hiding")
+public final class EitherSequence<Left, Right> {
+
+	private List<Right> rights;
+
+	private boolean hasLeft;
+
+	private Left left;
+
+	/**
+	 * Creates a new {@link EitherSequence}.
+	 */
+	public EitherSequence() {
+		rights = new ArrayList<Right>();
+	}
+
+	/**
+	 * Creates a new {@link EitherSequence}.
+	 * 
+	 * @param expectedSize
+	 *            The expected number of {@link Either Eithers}.
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative.
+	 */
+	public EitherSequence(int expectedSize) throws IllegalArgumentException {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The given expected size is negative");
+		}
+		rights = new ArrayList<Right>(expectedSize);
+	}
+
+	/**
+	 * Adds the given {@link Either} to this {@link EitherSequence}, unless a
+	 * left value has already been added.
+	 * 
+	 * @param either
+	 *            The {@link Either} to be added.
+	 * @return This {@link EitherSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Either} is {@literal null}.
+	 */
+	public EitherSequence<Left, Right> add(Either<? extends Left, ? extends Right> either)
+			throws IllegalArgumentException {
+		if (null == either) {
+			throw new IllegalArgumentException("The given either is null");
+		}
+		if (!hasLeft) {
+			if (either.isLeft()) {
+				setLeft(either.getLeft());
+			} else {
+				rights.add(either.getRight());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given {@link EitherSequence}, which holds {@link Either Eithers}
+	 * that follow the {@link Either Eithers} of this {@link EitherSequence}, to
+	 * this {@link EitherSequence}, unless a left value has already been added.
+	 * 
+	 * @param sequence
+	 *            The {@link EitherSequence} to be added.
+	 * @return This {@link EitherSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link EitherSequence} is {@literal null}.
+	 */
+	public EitherSequence<Left, Right> addAll(EitherSequence<? extends Left, ? extends Right> sequence)
+			throws IllegalArgumentException {
+		if (null == sequence) {
+			throw new IllegalArgumentException("The given sequence is null");
+		}
+		if (!hasLeft) {
+			if (sequence.hasLeft) {
+				setLeft(sequence.left);
+			} else {
+				rights.addAll(sequence.rights);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Returns whether a left value has been added to this
+	 * {@link EitherSequence}.
+	 * 
+	 * @return Whether a left value has been added.
+	 */
+	public boolean hasLeft() {
+		return hasLeft;
+	}
+
+	/**
+	 * Returns a {@link net.markenwerk.commons.datastructures.Left}
+	 * {@link Either} with the first left value, if a left value has been added,
+	 * or a {@link net.markenwerk.commons.datastructures.Right} {@link Either}
+	 * with an unmodifiable copy of all right values otherwise. Values that are
+	 * added afterwards are not reflected in the returned {@link Either}.
+	 * 
+	 * @return The resulting {@link Either}.
+	 */
+	public Either<Left, List<Right>> toEither() {
+		if (hasLeft) {
+			return net.markenwerk.commons.datastructures.Left.<Left, List<Right>> of(left);
+		} else {
+			return new net.markenwerk.commons.datastructures.Right<Left, List<Right>>(
+					Collections.unmodifiableList(new ArrayList<Right>(rights)));
+		}
+	}
+
+	private void setLeft(Left left) {
+		this.left = left;
+		hasLeft = true;
+		rights = Collections.emptyList();
+	}
+
+	@Override
+	public String toString() {
+		return "EitherSequence [" + (hasLeft ? "left=" + left : "rights=" + rights) + "]";
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Eithers} provides utility methods that operate on multiple
+ * {@link Either Eithers}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class Eithers {
+
+	private Eithers() {
+	}
+
+	/**
+	 * Splits the given {@link Either Eithers} into their left values and their
+	 * right values in a single pass. If the given {@link Iterable} is a
+	 * {@link Collection}, the returned {@link EitherPartition} is pre-sized.
+	 * 
+	 * @param <Left>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Left}
+	 *            {@link Either}.
+	 * @param <Right>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Right}
+	 *            {@link Either}.
+	 * @param eithers
+	 *            The {@link Either Eithers} to be split.
+	 * @return The {@link EitherPartition}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null} or contains
+	 *             {@literal null}.
+	 */
+	@SuppressWarnings("hiding")
+	public static <Left, Right> EitherPartition<Left, Right> partition(
+			Iterable<? extends Either<? extends Left, ? extends Right>> eithers) throws IllegalArgumentException {
+		if (null == eithers) {
+			throw new IllegalArgumentException("The given eithers are null");
+		}
+		EitherPartition<Left, Right> partition;
+		if (eithers instanceof Collection<?>) {
+			partition = new EitherPartition<Left, Right>(((Collection<?>) eithers).size());
+		} else {
+			partition = new EitherPartition<Left, Right>();
+		}
+		for (Either<? extends Left, ? extends Right> either : eithers) {
+			partition.add(either);
+		}
+		return partition;
+	}
+
+	/**
+	 * Splits the given {@link Either Eithers} into their left values and their
+	 * right values. The given {@link List} is split into the given number of
+	 * consecutive chunks, which are partitioned by tasks that are submitted to
+	 * the given {@link Executor}. The partial results are combined in order,
+	 * so that the result is equal to the result of
+	 * {@link Eithers#partition(Iterable)}.
+	 * 
+	 * @param <Left>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Left}
+	 *            {@link Either}.
+	 * @param <Right>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Right}
+	 *            {@link Either}.
+	 * @param eithers
+	 *            The {@link Either Eithers} to be split.
+	 * @param executor
+	 *            The {@link Executor} to be used.
+	 * @param numberOfChunks
+	 *            The number of chunks to be partitioned concurrently.
+	 * @return The {@link EitherPartition}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link List} or the given {@link Executor} is
+	 *             {@literal null}, if the given {@link List} contains
+	 *             {@literal null} or if the given number of chunks is not
+	 *             positive.
+	 * @throws RejectedExecutionException
+	 *             If the given {@link Executor} rejected a task. All tasks
+	 *             that have already been submitted are cancelled.
+	 * @throws InterruptedException
+	 *             If the calling thread has been interrupted while waiting for
+	 *             a task to complete.
+	 */
+	@SuppressWarnings("hiding")
+	public static <Left, Right> EitherPartition<Left, Right> partition(
+			List<? extends Either<? extends Left, ? extends Right>> eithers, Executor executor, int numberOfChunks)
+			throws IllegalArgumentException, RejectedExecutionException, InterruptedException {
+		if (null == eithers) {
+			throw new IllegalArgumentException("The given eithers are null");
+		}
+		if (null == executor) {
+			throw new IllegalArgumentException("The given executor is null");
+		}
+		if (numberOfChunks <= 0) {
+			throw new IllegalArgumentException("The given number of chunks is not positive");
+		}
+		int size = eithers.size();
+		int chunkSize = (size + numberOfChunks - 1) / numberOfChunks;
+		List<FutureTask<EitherPartition<Left, Right>>> tasks = new ArrayList<FutureTask<EitherPartition<Left, Right>>>(
+				numberOfChunks);
+		for (int from = 0; from < size; from += chunkSize) {
+			final List<? extends Either<? extends Left, ? extends Right>> chunk = eithers.subList(from,
+					Math.min(size, from + chunkSize));
+			FutureTask<EitherPartition<Left, Right>> task = new FutureTask<EitherPartition<Left, Right>>(
+					new Callable<EitherPartition<Left, Right>>() {
+
+						@Override
+						public EitherPartition<Left, Right> call() {
+							return Eithers.<Left, Right> partition(chunk);
+						}
+
+					});
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException e) {
+				cancel(tasks);
+				throw e;
+			}
+			tasks.add(task);
+		}
+		EitherPartition<Left, Right> partition = new EitherPartition<Left, Right>(size);
+		try {
+			for (FutureTask<EitherPartition<Left, Right>> task : tasks) {
+				partition.addAll(join(task));
+			}
+		} catch (InterruptedException e) {
+			cancel(tasks);
+			throw e;
+		}
+		return partition;
+	}
+
+	/**
+	 * Turns the given {@link Either Eithers} into a single {@link Either} that
+	 * holds the first left value or the list of all right values. The given
+	 * {@link Iterable} is only iterated up to the first
+	 * {@link net.markenwerk.commons.datastructures.Left} {@link Either}, which
+	 * makes this method suitable for lazily evaluated sources, like the
+	 * {@link Iterator} of a {@code java.util.stream.Stream}.
+	 * 
+	 * @param <Left>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Left}
+	 *            {@link Either}.
+	 * @param <Right>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Right}
+	 *            {@link Either}.
+	 * @param eithers
+	 *            The {@link Either Eithers} to be turned into a single
+	 *            {@link Either}.
+	 * @return The resulting {@link Either}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null} or contains
+	 *             {@literal null} before the first
+	 *             {@link net.markenwerk.commons.datastructures.Left}
+	 *             {@link Either}.
+	 * @see EitherSequence
+	 */
+	@SuppressWarnings("hiding")
+	public static <Left, Right> Either<Left, List<Right>> sequence(
+			Iterable<? extends Either<? extends Left, ? extends Right>> eithers) throws IllegalArgumentException {
+		if (null == eithers) {
+			throw new IllegalArgumentException("The given eithers are null");
+		}
+		EitherSequence<Left, Right> sequence = new EitherSequence<Left, Right>();
+		Iterator<? extends Either<? extends Left, ? extends Right>> iterator = eithers.iterator();
+		while (!sequence.hasLeft() && iterator.hasNext()) {
+			sequence.add(iterator.next());
+		}
+		return sequence.toEither();
+	}
+
+	private static void cancel(List<? extends FutureTask<?>> tasks) {
+		for (FutureTask<?> task : tasks) {
+			task.cancel(true);
+		}
+	}
+
+	private static <Result> Result join(FutureTask<Result> task) throws InterruptedException {
+		try {
+			return task.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+}
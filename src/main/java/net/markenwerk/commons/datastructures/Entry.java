@@ -25,6 +25,12 @@ package net.markenwerk.commons.datastructures;
  * An {@link Entry} is a simple immutable container class that holds a
  * key-value-pair.
  * 
+ * <p>
+ * An {@link Entry} caches its hash code, if all of its values are known to be
+ * immutable (e.g. strings, boxed primitives, enum constants or other container
+ * classes that only hold such values). Otherwise, the hash code is calculated
+ * on every call, because a value might be mutated.
+ * 
  * @param <Key>
  *            The key type.
  * @param <Value>
@@ -32,12 +38,14 @@ package net.markenwerk.commons.datastructures;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class Entry<Key, Value> {
+public final class Entry<Key, Value> implements EntryView<Key, Value> {
 
 	private final Key key;
 
 	private final Value value;
 
+	private int hash;
+
 	/**
 	 * Creates a new {@link Entry}.
 	 * 
@@ -93,15 +101,35 @@ public final class Entry<Key, Value> {
 		return new Entry<Key, Value>(key, value);
 	}
 
+	/**
+	 * Returns this {@link Entry}, because it is already immutable.
+	 * 
+	 * @return This {@link Entry}.
+	 */
+	@Override
+	public Entry<Key, Value> freeze() {
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((key == null) ? 0 : key.hashCode());
-		result = prime * result + ((value == null) ? 0 : value.hashCode());
+		int result = hash;
+		if (0 == result) {
+			final int prime = 31;
+			result = 1;
+			result = prime * result + ((key == null) ? 0 : key.hashCode());
+			result = prime * result + ((value == null) ? 0 : value.hashCode());
+			if (hasImmutableValues()) {
+				hash = result;
+			}
+		}
 		return result;
 	}
 
+	boolean hasImmutableValues() {
+		return 0 != hash || (Immutables.isImmutable(key) && Immutables.isImmutable(value));
+	}
+
 	@Override
 	public boolean equals(Object object) {
 		if (this == object) {
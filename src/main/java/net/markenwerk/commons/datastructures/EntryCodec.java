@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link EntryCodec} is a {@link Codec} for {@link Entry Entrys} that writes
+ * the key and the value with the given component {@link Codec Codecs}.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Value>
+ *            The value type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class EntryCodec<Key, Value> implements Codec<Entry<Key, Value>> {
+
+	private final Codec<Key> keyCodec;
+
+	private final Codec<Value> valueCodec;
+
+	/**
+	 * Creates a new {@link EntryCodec}.
+	 * 
+	 * @param keyCodec
+	 *            The {@link Codec} to be used for the keys.
+	 * @param valueCodec
+	 *            The {@link Codec} to be used for the values.
+	 * @throws IllegalArgumentException
+	 *             If one of the given {@link Codec Codecs} is {@literal null}.
+	 */
+	public EntryCodec(Codec<Key> keyCodec, Codec<Value> valueCodec) throws IllegalArgumentException {
+		if (null == keyCodec) {
+			throw new IllegalArgumentException("The given key codec is null");
+		}
+		if (null == valueCodec) {
+			throw new IllegalArgumentException("The given value codec is null");
+		}
+		this.keyCodec = keyCodec;
+		this.valueCodec = valueCodec;
+	}
+
+	@Override
+	public void encode(Entry<Key, Value> value, DataOutput output) throws IOException {
+		if (null == value) {
+			throw new IllegalArgumentException("The given value is null");
+		}
+		keyCodec.encode(value.getKey(), output);
+		valueCodec.encode(value.getValue(), output);
+	}
+
+	@Override
+	public Entry<Key, Value> decode(DataInput input) throws IOException {
+		Key key = keyCodec.decode(input);
+		Value value = valueCodec.decode(input);
+		return new Entry<Key, Value>(key, value);
+	}
+
+}
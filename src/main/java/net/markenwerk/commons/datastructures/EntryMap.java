@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An {@link EntryMap} is a hash map that uses open addressing with linear
+ * probing and stores its keys and values in two flat arrays. Unlike
+ * {@link java.util.HashMap}, it doesn't create a node object per mapping and
+ * {@link Entry Entries} are only created on demand.
+ * 
+ * <p>
+ * {@literal null} is permitted as a key and as a value. An {@link EntryMap} is
+ * not thread-safe.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Value>
+ *            The value type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class EntryMap<Key, Value> {
+
+	private static final Object NULL_KEY = new Object();
+
+	private static final int MINIMUM_CAPACITY = 8;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final int maximumCapacity;
+
+	Object[] keys;
+
+	Object[] values;
+
+	private int size;
+
+	private int threshold;
+
+	int modifications;
+
+	/**
+	 * Creates a new, empty {@link EntryMap}.
+	 */
+	public EntryMap() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new, empty {@link EntryMap}.
+	 * 
+	 * @param expectedSize
+	 *            The number of mappings this {@link EntryMap} is expected to
+	 *            hold without resizing.
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative.
+	 */
+	public EntryMap(int expectedSize) throws IllegalArgumentException {
+		this(expectedSize, MAXIMUM_CAPACITY);
+	}
+
+	EntryMap(int expectedSize, int maximumCapacity) throws IllegalArgumentException {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The given expected size is negative");
+		}
+		this.maximumCapacity = maximumCapacity;
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the number of mappings in this {@link EntryMap}.
+	 * 
+	 * @return The number of mappings.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether this {@link EntryMap} has no mappings.
+	 * 
+	 * @return Whether this {@link EntryMap} has no mappings.
+	 */
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * Returns whether this {@link EntryMap} has a mapping for the given key.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return Whether this {@link EntryMap} has a mapping for the given key.
+	 */
+	public boolean containsKey(Key key) {
+		return -1 != indexOf(mask(key));
+	}
+
+	/**
+	 * Returns the value that is mapped to the given key, if any.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return The value or {@literal null}, if this {@link EntryMap} has no
+	 *         mapping for the given key.
+	 */
+	public Value get(Key key) {
+		return get(key, null);
+	}
+
+	/**
+	 * Returns the value that is mapped to the given key, if any, or the given
+	 * fallback value.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @param fallback
+	 *            The fallback value to be used.
+	 * @return The value or the given fallback value, if this {@link EntryMap}
+	 *         has no mapping for the given key.
+	 */
+	@SuppressWarnings("unchecked")
+	public Value get(Key key, Value fallback) {
+		int index = indexOf(mask(key));
+		return -1 == index ? fallback : (Value) values[index];
+	}
+
+	/**
+	 * Creates a new {@link Entry} for the mapping of the given key, if any.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return The created {@link Entry} or {@literal null}, if this
+	 *         {@link EntryMap} has no mapping for the given key.
+	 */
+	public Entry<Key, Value> getEntry(Key key) {
+		int index = indexOf(mask(key));
+		return -1 == index ? null : entryAt(index);
+	}
+
+	/**
+	 * Maps the given key to the given value.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @param value
+	 *            The value to be used.
+	 * @return The value that was previously mapped to the given key or
+	 *         {@literal null}, if this {@link EntryMap} had no mapping for the
+	 *         given key.
+	 */
+	@SuppressWarnings("unchecked")
+	public Value put(Key key, Value value) {
+		Object maskedKey = mask(key);
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+		int index = slot(maskedKey, mask);
+		Object candidate;
+		while (null != (candidate = keys[index])) {
+			if (candidate == maskedKey || candidate.equals(maskedKey)) {
+				Value previous = (Value) values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = (index + 1) & mask;
+		}
+		if (size >= threshold) {
+			resize(keys.length << 1);
+			keys = this.keys;
+			mask = keys.length - 1;
+			index = slot(maskedKey, mask);
+			while (null != keys[index]) {
+				index = (index + 1) & mask;
+			}
+		}
+		keys[index] = maskedKey;
+		values[index] = value;
+		size++;
+		modifications++;
+		return null;
+	}
+
+	/**
+	 * Maps the key of the given {@link Entry} to its value.
+	 * 
+	 * @param entry
+	 *            The {@link Entry} to be used.
+	 * @return The value that was previously mapped to the key or
+	 *         {@literal null}, if this {@link EntryMap} had no mapping for the
+	 *         key.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Entry} is {@literal null}.
+	 */
+	public Value put(Entry<? extends Key, ? extends Value> entry) throws IllegalArgumentException {
+		if (null == entry) {
+			throw new IllegalArgumentException("The given entry is null");
+		}
+		return put(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * Maps the keys of all given {@link Entry Entries} to their values. This
+	 * {@link EntryMap} is resized at most once.
+	 * 
+	 * @param entries
+	 *            The {@link Entry Entries} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given array is {@literal null} or contains a
+	 *             {@literal null} {@link Entry}.
+	 */
+	public void putAll(Entry<? extends Key, ? extends Value>[] entries) throws IllegalArgumentException {
+		if (null == entries) {
+			throw new IllegalArgumentException("The given entries are null");
+		}
+		int capacity = capacityFor(size + entries.length);
+		if (capacity > keys.length) {
+			resize(capacity);
+		}
+		for (Entry<? extends Key, ? extends Value> entry : entries) {
+			put(entry);
+		}
+	}
+
+	/**
+	 * Removes the mapping for the given key, if any.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return The value that was previously mapped to the given key or
+	 *         {@literal null}, if this {@link EntryMap} had no mapping for the
+	 *         given key.
+	 */
+	@SuppressWarnings("unchecked")
+	public Value remove(Key key) {
+		int index = indexOf(mask(key));
+		if (-1 == index) {
+			return null;
+		}
+		Value previous = (Value) values[index];
+		Object[] keys = this.keys;
+		Object[] values = this.values;
+		int mask = keys.length - 1;
+		int gap = index;
+		int next = (gap + 1) & mask;
+		Object candidate;
+		while (null != (candidate = keys[next])) {
+			int distance = (next - slot(candidate, mask)) & mask;
+			if (distance >= ((next - gap) & mask)) {
+				keys[gap] = candidate;
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = null;
+		values[gap] = null;
+		size--;
+		modifications++;
+		return previous;
+	}
+
+	/**
+	 * Removes all mappings from this {@link EntryMap}.
+	 */
+	public void clear() {
+		Arrays.fill(keys, null);
+		Arrays.fill(values, null);
+		size = 0;
+		modifications++;
+	}
+
+	/**
+	 * Creates a new {@link List} that contains an {@link Entry} for every
+	 * mapping of this {@link EntryMap}.
+	 * 
+	 * @return The created {@link List}.
+	 */
+	public List<Entry<Key, Value>> entries() {
+		List<Entry<Key, Value>> entries = new ArrayList<Entry<Key, Value>>(size);
+		Object[] keys = this.keys;
+		for (int i = 0; i < keys.length; i++) {
+			if (null != keys[i]) {
+				entries.add(entryAt(i));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Creates a new {@link EntryMapCursor} that iterates over the mappings of
+	 * this {@link EntryMap}. The returned {@link EntryMapCursor} is a reusable
+	 * view and doesn't create an {@link Entry} per mapping.
+	 * 
+	 * @return The created {@link EntryMapCursor}.
+	 */
+	public EntryMapCursor<Key, Value> cursor() {
+		return new EntryMapCursor<Key, Value>(this);
+	}
+
+	@SuppressWarnings("unchecked")
+	Key keyAt(int index) {
+		Object key = keys[index];
+		return NULL_KEY == key ? null : (Key) key;
+	}
+
+	@SuppressWarnings("unchecked")
+	Value valueAt(int index) {
+		return (Value) values[index];
+	}
+
+	private Entry<Key, Value> entryAt(int index) {
+		return new Entry<Key, Value>(keyAt(index), valueAt(index));
+	}
+
+	private int indexOf(Object maskedKey) {
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+		int index = slot(maskedKey, mask);
+		Object candidate;
+		while (null != (candidate = keys[index])) {
+			if (candidate == maskedKey || candidate.equals(maskedKey)) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void resize(int capacity) {
+		if (capacity > maximumCapacity) {
+			throw new IllegalStateException("This map is too large");
+		}
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+		Object[] keys = this.keys;
+		Object[] values = this.values;
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			Object key = oldKeys[i];
+			if (null != key) {
+				int index = slot(key, mask);
+				while (null != keys[index]) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+			}
+		}
+		modifications++;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		threshold = capacity / 4 * 3;
+	}
+
+	private int capacityFor(int expectedSize) {
+		int capacity = MINIMUM_CAPACITY;
+		while (capacity / 4 * 3 < expectedSize) {
+			if (capacity >= maximumCapacity) {
+				throw new IllegalStateException("The given size is too large");
+			}
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static Object mask(Object key) {
+		return null == key ? NULL_KEY : key;
+	}
+
+	private static int slot(Object maskedKey, int mask) {
+		int hash = maskedKey.hashCode() * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("EntryMap [");
+		boolean first = true;
+		for (int i = 0; i < keys.length; i++) {
+			if (null != keys[i]) {
+				if (!first) {
+					builder.append(", ");
+				}
+				builder.append(keyAt(i)).append("=").append(values[i]);
+				first = false;
+			}
+		}
+		return builder.append("]").toString();
+	}
+
+}
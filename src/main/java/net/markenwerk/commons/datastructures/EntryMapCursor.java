@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ConcurrentModificationException;
+
+/**
+ * An {@link EntryMapCursor} is a reusable, mutable view on the mappings of an
+ * {@link EntryMap}. It is positioned on one mapping at a time and exposes the
+ * key and value of that mapping without creating an {@link Entry}.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Value>
+ *            The value type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class EntryMapCursor<Key, Value> implements EntryView<Key, Value> {
+
+	private final EntryMap<Key, Value> map;
+
+	private final int modifications;
+
+	private int index = -1;
+
+	EntryMapCursor(EntryMap<Key, Value> map) {
+		this.map = map;
+		this.modifications = map.modifications;
+	}
+
+	/**
+	 * Moves this {@link EntryMapCursor} to the next mapping.
+	 * 
+	 * @return Whether this {@link EntryMapCursor} is positioned on a mapping.
+	 * @throws ConcurrentModificationException
+	 *             If mappings have been added to or removed from the
+	 *             {@link EntryMap} since this {@link EntryMapCursor} has been
+	 *             created.
+	 */
+	public boolean next() throws ConcurrentModificationException {
+		checkModifications();
+		Object[] keys = map.keys;
+		while (++index < keys.length) {
+			if (null != keys[index]) {
+				return true;
+			}
+		}
+		index = keys.length;
+		return false;
+	}
+
+	/**
+	 * Returns the key of the current mapping.
+	 * 
+	 * @return The key.
+	 * @throws IllegalStateException
+	 *             If this {@link EntryMapCursor} is not positioned on a
+	 *             mapping.
+	 * @throws ConcurrentModificationException
+	 *             If mappings have been added to or removed from the
+	 *             {@link EntryMap} since this {@link EntryMapCursor} has been
+	 *             created.
+	 */
+	@Override
+	public Key getKey() throws IllegalStateException, ConcurrentModificationException {
+		checkPosition();
+		return map.keyAt(index);
+	}
+
+	/**
+	 * Returns the value of the current mapping.
+	 * 
+	 * @return The value.
+	 * @throws IllegalStateException
+	 *             If this {@link EntryMapCursor} is not positioned on a
+	 *             mapping.
+	 * @throws ConcurrentModificationException
+	 *             If mappings have been added to or removed from the
+	 *             {@link EntryMap} since this {@link EntryMapCursor} has been
+	 *             created.
+	 */
+	@Override
+	public Value getValue() throws IllegalStateException, ConcurrentModificationException {
+		checkPosition();
+		return map.valueAt(index);
+	}
+
+	/**
+	 * Creates a new {@link Entry} with the key and value of the current
+	 * mapping.
+	 * 
+	 * @return The created {@link Entry}.
+	 * @throws IllegalStateException
+	 *             If this {@link EntryMapCursor} is not positioned on a
+	 *             mapping.
+	 * @throws ConcurrentModificationException
+	 *             If mappings have been added to or removed from the
+	 *             {@link EntryMap} since this {@link EntryMapCursor} has been
+	 *             created.
+	 */
+	@Override
+	public Entry<Key, Value> freeze() throws IllegalStateException, ConcurrentModificationException {
+		checkPosition();
+		return new Entry<Key, Value>(map.keyAt(index), map.valueAt(index));
+	}
+
+	private void checkPosition() throws IllegalStateException, ConcurrentModificationException {
+		checkModifications();
+		if (index < 0 || index >= map.keys.length) {
+			throw new IllegalStateException("This cursor is not positioned on a mapping");
+		}
+	}
+
+	private void checkModifications() throws ConcurrentModificationException {
+		if (modifications != map.modifications) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * An {@link EntryView} is a read-only view on a key-value-pair. It is
+ * implemented by the immutable {@link Entry} and by reusable, mutable views
+ * like {@link MutableEntry}, which allow handing a key-value-pair to code that
+ * only reads it without creating a new {@link Entry} for every element of a
+ * larger data set.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Value>
+ *            The value type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public interface EntryView<Key, Value> {
+
+	/**
+	 * Returns the key of this {@link EntryView}.
+	 * 
+	 * @return The key.
+	 */
+	public Key getKey();
+
+	/**
+	 * Returns the value of this {@link EntryView}.
+	 * 
+	 * @return The value.
+	 */
+	public Value getValue();
+
+	/**
+	 * Returns an immutable {@link Entry} with the current key and value of this
+	 * {@link EntryView}. An {@link Entry} returns itself, a mutable view
+	 * creates a new {@link Entry}.
+	 * 
+	 * @return The {@link Entry}.
+	 */
+	public Entry<Key, Value> freeze();
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * An {@link EvictionPolicy} determines which cached value a bounded cache, like
+ * the one used by a {@link MemoizingOptionalSelection}, evicts, once it is
+ * full.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public enum EvictionPolicy {
+
+	/**
+	 * Evicts the value that has not been accessed for the longest time.
+	 */
+	LEAST_RECENTLY_USED,
+
+	/**
+	 * Evicts the value that has been accessed the least number of times. Ties
+	 * are broken by evicting the value that has been cached first.
+	 */
+	LEAST_FREQUENTLY_USED,
+
+	/**
+	 * Evicts the value that has been cached first, regardless of how it has
+	 * been accessed.
+	 */
+	FIRST_IN_FIRST_OUT;
+
+}
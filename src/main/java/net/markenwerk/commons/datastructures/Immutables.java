@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * Decides whether a value is known to be immutable, such that a container
+ * class may cache a hash code that depends on it.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+final class Immutables {
+
+	private Immutables() {
+	}
+
+	/**
+	 * Marks a class, whose instances have a hash code that never changes.
+	 */
+	interface Immutable {
+	}
+
+	/**
+	 * Returns whether the given value is {@literal null}, a {@link String}, a
+	 * boxed primitive, an {@link Enum} constant, a {@link Class}, an
+	 * {@link Immutable} or a {@link Tuple}, {@link Pair}, {@link Triple},
+	 * {@link Entry} or {@link Wrapper} that only holds such values.
+	 */
+	static boolean isImmutable(Object value) {
+		if (null == value) {
+			return true;
+		}
+		Class<?> type = value.getClass();
+		if (String.class == type || Integer.class == type || Long.class == type || Boolean.class == type
+				|| Character.class == type || Double.class == type || Float.class == type || Short.class == type
+				|| Byte.class == type || Class.class == type) {
+			return true;
+		} else if (value instanceof Enum<?> || value instanceof Immutable) {
+			return true;
+		} else if (Tuple.class == type) {
+			return ((Tuple<?, ?>) value).hasImmutableValues();
+		} else if (Pair.class == type) {
+			return ((Pair<?>) value).hasImmutableValues();
+		} else if (Triple.class == type) {
+			return ((Triple<?, ?, ?>) value).hasImmutableValues();
+		} else if (Entry.class == type) {
+			return ((Entry<?, ?>) value).hasImmutableValues();
+		} else if (Wrapper.class == type) {
+			return ((Wrapper<?>) value).hasImmutableValues();
+		}
+		return false;
+	}
+
+}
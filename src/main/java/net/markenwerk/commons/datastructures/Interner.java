@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * An {@link Interner} canonicalizes equal instances of an immutable type (e.g.
+ * {@link Tuple}, {@link Pair}, {@link Triple} or {@link Entry}), such that
+ * equal instances can share a single object.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public interface Interner<Payload> {
+
+	/**
+	 * Returns the canonical instance that is equal to the given payload value.
+	 * If no such instance is known, the given payload value becomes the
+	 * canonical instance.
+	 * 
+	 * @param payload
+	 *            The payload value to be interned.
+	 * @return The canonical instance or {@literal null}, if the given payload
+	 *         value is {@literal null}.
+	 */
+	public Payload intern(Payload payload);
+
+	/**
+	 * Returns the number of calls to {@link Interner#intern(Object)} that
+	 * returned a previously known canonical instance.
+	 * 
+	 * @return The number of hits.
+	 */
+	public long getHitCount();
+
+	/**
+	 * Returns the number of calls to {@link Interner#intern(Object)} that
+	 * made the given payload value the canonical instance.
+	 * 
+	 * @return The number of misses.
+	 */
+	public long getMissCount();
+
+}
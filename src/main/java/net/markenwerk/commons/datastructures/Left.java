@@ -21,6 +21,8 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import net.markenwerk.commons.interfaces.Converter;
+
 /**
  * An {@link Left} is one of two distinct simple immutable container class that
  * holds a single value.
@@ -37,6 +39,14 @@ package net.markenwerk.commons.datastructures;
 @SuppressWarnings("hiding")
 public final class Left<Payload, Right> extends Either<Payload, Right> {
 
+	private static final Left<?, ?>[] SHARED = new Left<?, ?>[SharedPayloads.SIZE];
+
+	static {
+		for (int i = 0; i < SHARED.length; i++) {
+			SHARED[i] = new Left<Object, Object>(SharedPayloads.valueAt(i));
+		}
+	}
+
 	private final Payload value;
 
 	/**
@@ -49,6 +59,32 @@ public final class Left<Payload, Right> extends Either<Payload, Right> {
 		this.value = value;
 	}
 
+	/**
+	 * Returns a {@link Left} with the given value. For {@literal null},
+	 * {@link Boolean#FALSE}, {@link Boolean#TRUE} and the {@link Integer}
+	 * instances returned by {@link Integer#valueOf(int)} for values from
+	 * {@literal -128} to {@literal 127}, the returned {@link Left} is a
+	 * shared instance.
+	 * 
+	 * @param <Payload>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Left}
+	 *            {@link Either}.
+	 * @param <Right>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Right}
+	 *            {@link Either}.
+	 * @param value
+	 *            The value to be used.
+	 * @return A {@link Left} with the given value.
+	 * @since 1.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Payload, Right> Left<Payload, Right> of(Payload value) {
+		int index = SharedPayloads.indexOf(value);
+		return -1 == index ? new Left<Payload, Right>(value) : (Left<Payload, Right>) SHARED[index];
+	}
+
 	@Override
 	public boolean isLeft() {
 		return true;
@@ -69,6 +105,53 @@ public final class Left<Payload, Right> extends Either<Payload, Right> {
 		throw new IllegalStateException("Left has no right value.");
 	}
 
+	@Override
+	public <Result> Result fold(Converter<? super Payload, ? extends Result> leftConverter,
+			Converter<? super Right, ? extends Result> rightConverter) throws IllegalArgumentException {
+		if (null == leftConverter) {
+			throw new IllegalArgumentException("The given left converter is null");
+		}
+		if (null == rightConverter) {
+			throw new IllegalArgumentException("The given right converter is null");
+		}
+		return leftConverter.convert(value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <Result> Either<Result, Right> mapLeft(Converter<? super Payload, ? extends Result> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		Result result = converter.convert(value);
+		if (result == value) {
+			return (Either<Result, Right>) this;
+		}
+		return Left.<Result, Right> of(result);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <Result> Either<Payload, Result> mapRight(Converter<? super Right, ? extends Result> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		return (Either<Payload, Result>) this;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <Result> Either<Payload, Result> flatMap(
+			Converter<? super Right, ? extends Either<? extends Payload, ? extends Result>> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		return (Either<Payload, Result>) this;
+	}
+
 	@Override
 	public int hashCode() {
 		return null == value ? 0 : value.hashCode();
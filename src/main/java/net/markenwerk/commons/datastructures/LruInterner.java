@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link LruInterner} is an {@link Interner} that holds a bounded number of
+ * canonical instances and evicts the least recently used canonical instance,
+ * once that number would be exceeded. The bound is distributed over all
+ * segments, such that the sum of the segment sizes equals the bound, and
+ * eviction happens per segment. The number of segments is reduced to the
+ * largest power of two that is not greater than the bound, if necessary.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class LruInterner<Payload> extends AbstractInterner<Payload, Map<Payload, Payload>> {
+
+	private final List<Map<Payload, Payload>> segments;
+
+	/**
+	 * Creates a new {@link LruInterner}.
+	 * 
+	 * @param maximumSize
+	 *            The maximum number of canonical instances to be held.
+	 * @throws IllegalArgumentException
+	 *             If the given maximum size is not positive.
+	 */
+	public LruInterner(int maximumSize) throws IllegalArgumentException {
+		this(maximumSize, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Creates a new {@link LruInterner}.
+	 * 
+	 * @param maximumSize
+	 *            The maximum number of canonical instances to be held.
+	 * @param concurrencyLevel
+	 *            The minimum number of segments to be used, unless it exceeds
+	 *            the given maximum size.
+	 * @throws IllegalArgumentException
+	 *             If the given maximum size or the given concurrency level is
+	 *             not positive or if the given concurrency level is too large.
+	 */
+	public LruInterner(int maximumSize, int concurrencyLevel) throws IllegalArgumentException {
+		this(LruInterner.<Payload> createSegments(maximumSize, concurrencyLevel));
+	}
+
+	private LruInterner(List<Map<Payload, Payload>> segments) {
+		super(segments);
+		this.segments = segments;
+	}
+
+	private static <Payload> List<Map<Payload, Payload>> createSegments(int maximumSize, int concurrencyLevel)
+			throws IllegalArgumentException {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("The given maximum size is not positive");
+		}
+		int numberOfSegments = Segments.numberOfSegments(maximumSize, concurrencyLevel);
+		List<Map<Payload, Payload>> segments = new ArrayList<Map<Payload, Payload>>(numberOfSegments);
+		for (int i = 0; i < numberOfSegments; i++) {
+			segments.add(new LruMap<Payload, Payload>(Segments.segmentSize(maximumSize, numberOfSegments, i)));
+		}
+		return segments;
+	}
+
+	int size() {
+		int size = 0;
+		for (Map<Payload, Payload> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	@Override
+	protected Payload doIntern(Map<Payload, Payload> segment, Payload payload) {
+		Payload canonical = segment.get(payload);
+		if (null == canonical) {
+			segment.put(payload, payload);
+		}
+		return canonical;
+	}
+
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link MemoizingOptionalSelection} is an {@link OptionalSelection} that
+ * decorates another {@link OptionalSelection} and caches its results.
+ * 
+ * <p>
+ * The result of {@link OptionalSelection#onValue(Object)} is cached per payload
+ * value in a bounded cache that evicts results according to an
+ * {@link EvictionPolicy} and, optionally, after a given time to live. The cache
+ * is spread over a number of independently locked segments. The maximum size is
+ * distributed over all segments, such that the sum of the segment sizes equals
+ * the maximum size, and eviction happens per segment. The decorated
+ * {@link OptionalSelection} is called without holding a lock, so that
+ * concurrent misses for the same payload value may call the decorated
+ * {@link OptionalSelection} more than once.
+ * 
+ * <p>
+ * The result of {@link OptionalSelection#onNoValue()} is calculated once and
+ * cached indefinitely.
+ * 
+ * <p>
+ * Payload values are used as keys and must therefore implement
+ * {@link Object#hashCode()} and {@link Object#equals(Object)} consistently and
+ * must not be modified while they are cached.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @param <Result>
+ *            The result type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class MemoizingOptionalSelection<Payload, Result> implements OptionalSelection<Payload, Result> {
+
+	/**
+	 * The default number of segments.
+	 */
+	public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final OptionalSelection<? super Payload, ? extends Result> selection;
+
+	private final Object[] segments;
+
+	private final int mask;
+
+	private volatile Wrapper<Result> noValueResult;
+
+	/**
+	 * Creates a new {@link MemoizingOptionalSelection} without a time to live.
+	 * 
+	 * @param selection
+	 *            The {@link OptionalSelection} to be decorated.
+	 * @param maximumSize
+	 *            The maximum number of results to be cached.
+	 * @param policy
+	 *            The {@link EvictionPolicy} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalSelection} or the given
+	 *             {@link EvictionPolicy} is {@literal null} or if the given
+	 *             maximum size is not positive.
+	 */
+	public MemoizingOptionalSelection(OptionalSelection<? super Payload, ? extends Result> selection,
+			int maximumSize, EvictionPolicy policy) throws IllegalArgumentException {
+		this(selection, maximumSize, policy, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Creates a new {@link MemoizingOptionalSelection} without a time to live.
+	 * 
+	 * @param selection
+	 *            The {@link OptionalSelection} to be decorated.
+	 * @param maximumSize
+	 *            The maximum number of results to be cached.
+	 * @param policy
+	 *            The {@link EvictionPolicy} to be used.
+	 * @param concurrencyLevel
+	 *            The minimum number of segments to be used, unless it
+	 *            exceeds the given maximum size.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalSelection} or the given
+	 *             {@link EvictionPolicy} is {@literal null}, if the given
+	 *             maximum size or the given concurrency level is not positive
+	 *             or if the given concurrency level is too large.
+	 */
+	public MemoizingOptionalSelection(OptionalSelection<? super Payload, ? extends Result> selection,
+			int maximumSize, EvictionPolicy policy, int concurrencyLevel) throws IllegalArgumentException {
+		this(selection, maximumSize, policy, 0, TimeUnit.NANOSECONDS, concurrencyLevel);
+	}
+
+	/**
+	 * Creates a new {@link MemoizingOptionalSelection}.
+	 * 
+	 * @param selection
+	 *            The {@link OptionalSelection} to be decorated.
+	 * @param maximumSize
+	 *            The maximum number of results to be cached.
+	 * @param policy
+	 *            The {@link EvictionPolicy} to be used.
+	 * @param timeToLive
+	 *            The duration after which a cached result expires or
+	 *            {@literal 0}, if cached results should not expire.
+	 * @param unit
+	 *            The {@link TimeUnit} of the given time to live.
+	 * @param concurrencyLevel
+	 *            The minimum number of segments to be used, unless it
+	 *            exceeds the given maximum size.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalSelection}, the given
+	 *             {@link EvictionPolicy} or the given {@link TimeUnit} is
+	 *             {@literal null}, if the given maximum size or the given
+	 *             concurrency level is not positive, if the given concurrency
+	 *             level is too large or if the given time to live is negative.
+	 */
+	public MemoizingOptionalSelection(OptionalSelection<? super Payload, ? extends Result> selection,
+			int maximumSize, EvictionPolicy policy, long timeToLive, TimeUnit unit, int concurrencyLevel)
+			throws IllegalArgumentException {
+		if (null == selection) {
+			throw new IllegalArgumentException("The given selection is null");
+		}
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("The given maximum size is not positive");
+		}
+		if (null == policy) {
+			throw new IllegalArgumentException("The given policy is null");
+		}
+		if (timeToLive < 0) {
+			throw new IllegalArgumentException("The given time to live is negative");
+		}
+		if (null == unit) {
+			throw new IllegalArgumentException("The given unit is null");
+		}
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("The given concurrency level is not positive");
+		}
+		if (concurrencyLevel > Segments.MAXIMUM_CONCURRENCY_LEVEL) {
+			throw new IllegalArgumentException("The given concurrency level is too large");
+		}
+		this.selection = selection;
+		int numberOfSegments = Segments.numberOfSegments(maximumSize, concurrencyLevel);
+		long timeToLiveNanos = unit.toNanos(timeToLive);
+		segments = new Object[numberOfSegments];
+		for (int i = 0; i < numberOfSegments; i++) {
+			int segmentSize = Segments.segmentSize(maximumSize, numberOfSegments, i);
+			segments[i] = new BoundedCache<Payload, Result>(segmentSize, policy, timeToLiveNanos);
+		}
+		mask = numberOfSegments - 1;
+	}
+
+	@Override
+	public Result onNoValue() {
+		Wrapper<Result> result = noValueResult;
+		if (null == result) {
+			synchronized (this) {
+				result = noValueResult;
+				if (null == result) {
+					result = new Wrapper<Result>(selection.onNoValue());
+					noValueResult = result;
+				}
+			}
+		}
+		return result.getValue();
+	}
+
+	@Override
+	public Result onValue(Payload payload) {
+		BoundedCache<Payload, Result> segment = getSegment(payload);
+		BoundedCache.Slot<Payload, Result> slot;
+		synchronized (segment) {
+			slot = segment.get(payload, System.nanoTime());
+		}
+		if (null != slot) {
+			hits.incrementAndGet();
+			return slot.value;
+		}
+		misses.incrementAndGet();
+		Result result = selection.onValue(payload);
+		synchronized (segment) {
+			segment.put(payload, result, System.nanoTime());
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of calls to
+	 * {@link MemoizingOptionalSelection#onValue(Object)} that returned a cached
+	 * result.
+	 * 
+	 * @return The number of hits.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of calls to
+	 * {@link MemoizingOptionalSelection#onValue(Object)} that called the
+	 * decorated {@link OptionalSelection}.
+	 * 
+	 * @return The number of misses.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of currently cached results, including results that
+	 * have expired, but have not yet been removed.
+	 * 
+	 * @return The number of cached results.
+	 */
+	public int size() {
+		int size = 0;
+		for (Object segment : segments) {
+			synchronized (segment) {
+				size += ((BoundedCache<?, ?>) segment).size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all cached results of {@link OptionalSelection#onValue(Object)}.
+	 * The cached result of {@link OptionalSelection#onNoValue()} and the
+	 * statistics are retained.
+	 */
+	public void clear() {
+		for (Object segment : segments) {
+			synchronized (segment) {
+				((BoundedCache<?, ?>) segment).clear();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private BoundedCache<Payload, Result> getSegment(Payload payload) {
+		return (BoundedCache<Payload, Result>) segments[Segments.indexOf(payload, mask)];
+	}
+
+	@Override
+	public String toString() {
+		return "MemoizingOptionalSelection [selection=" + selection + ", hits=" + hits.get() + ", misses="
+				+ misses.get() + "]";
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * A {@link MutableEntry} is a simple mutable container class that holds a
+ * key-value-pair. It is meant to be reused as a {@link EntryView} while
+ * iterating over a larger data set, so that {@link MutableEntry#freeze()} only
+ * has to create an immutable {@link Entry} for elements that are actually
+ * retained.
+ * 
+ * <p>
+ * A {@link MutableEntry} is not thread-safe.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Value>
+ *            The value type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class MutableEntry<Key, Value> implements EntryView<Key, Value> {
+
+	private Key key;
+
+	private Value value;
+
+	/**
+	 * Creates a new {@link MutableEntry} with {@literal null} as the current
+	 * values.
+	 */
+	public MutableEntry() {
+		this(null, null);
+	}
+
+	/**
+	 * Creates a new {@link MutableEntry}.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @param value
+	 *            The value to be used.
+	 */
+	public MutableEntry(Key key, Value value) {
+		this.key = key;
+		this.value = value;
+	}
+
+	@Override
+	public Key getKey() {
+		return key;
+	}
+
+	/**
+	 * Sets the current key of this {@link MutableEntry}.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 */
+	public void setKey(Key key) {
+		this.key = key;
+	}
+
+	@Override
+	public Value getValue() {
+		return value;
+	}
+
+	/**
+	 * Sets the current value of this {@link MutableEntry}.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public void setValue(Value value) {
+		this.value = value;
+	}
+
+	/**
+	 * Sets all current values of this {@link MutableEntry}.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @param value
+	 *            The value to be used.
+	 */
+	public void set(Key key, Value value) {
+		this.key = key;
+		this.value = value;
+	}
+
+	/**
+	 * Creates a new {@link Entry} with the current values of this
+	 * {@link MutableEntry}.
+	 * 
+	 * @return The created {@link Entry}.
+	 */
+	@Override
+	public Entry<Key, Value> freeze() {
+		return new Entry<Key, Value>(key, value);
+	}
+
+	@Override
+	public String toString() {
+		return "MutableEntry [key=" + key + ", value=" + value + "]";
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * A {@link MutableTriple} is a simple mutable container class that holds three
+ * values. It is meant to be reused as a {@link TripleView} while iterating over
+ * a larger data set, so that {@link MutableTriple#freeze()} only has to create
+ * an immutable {@link Triple} for elements that are actually retained.
+ * 
+ * <p>
+ * A {@link MutableTriple} is not thread-safe.
+ * 
+ * @param <First>
+ *            The type of the first value.
+ * @param <Second>
+ *            The type of the second value.
+ * @param <Third>
+ *            The type of the third value.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class MutableTriple<First, Second, Third> implements TripleView<First, Second, Third> {
+
+	private First first;
+
+	private Second second;
+
+	private Third third;
+
+	/**
+	 * Creates a new {@link MutableTriple} with {@literal null} as the current
+	 * values.
+	 */
+	public MutableTriple() {
+		this(null, null, null);
+	}
+
+	/**
+	 * Creates a new {@link MutableTriple}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 * @param third
+	 *            The third value to be used.
+	 */
+	public MutableTriple(First first, Second second, Third third) {
+		this.first = first;
+		this.second = second;
+		this.third = third;
+	}
+
+	@Override
+	public First getFirst() {
+		return first;
+	}
+
+	/**
+	 * Sets the current first value of this {@link MutableTriple}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 */
+	public void setFirst(First first) {
+		this.first = first;
+	}
+
+	@Override
+	public Second getSecond() {
+		return second;
+	}
+
+	/**
+	 * Sets the current second value of this {@link MutableTriple}.
+	 * 
+	 * @param second
+	 *            The second value to be used.
+	 */
+	public void setSecond(Second second) {
+		this.second = second;
+	}
+
+	@Override
+	public Third getThird() {
+		return third;
+	}
+
+	/**
+	 * Sets the current third value of this {@link MutableTriple}.
+	 * 
+	 * @param third
+	 *            The third value to be used.
+	 */
+	public void setThird(Third third) {
+		this.third = third;
+	}
+
+	/**
+	 * Sets all current values of this {@link MutableTriple}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 * @param third
+	 *            The third value to be used.
+	 */
+	public void set(First first, Second second, Third third) {
+		this.first = first;
+		this.second = second;
+		this.third = third;
+	}
+
+	/**
+	 * Creates a new {@link Triple} with the current values of this
+	 * {@link MutableTriple}.
+	 * 
+	 * @return The created {@link Triple}.
+	 */
+	@Override
+	public Triple<First, Second, Third> freeze() {
+		return new Triple<First, Second, Third>(first, second, third);
+	}
+
+	@Override
+	public String toString() {
+		return "MutableTriple [first=" + first + ", second=" + second + ", third=" + third + "]";
+	}
+
+}
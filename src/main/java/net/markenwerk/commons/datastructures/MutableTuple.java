@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * A {@link MutableTuple} is a simple mutable container class that holds two
+ * values. It is meant to be reused as a {@link TupleView} while iterating over
+ * a larger data set, so that {@link MutableTuple#freeze()} only has to create
+ * an immutable {@link Tuple} for elements that are actually retained.
+ * 
+ * <p>
+ * A {@link MutableTuple} is not thread-safe.
+ * 
+ * @param <First>
+ *            The type of the first value.
+ * @param <Second>
+ *            The type of the second value.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class MutableTuple<First, Second> implements TupleView<First, Second> {
+
+	private First first;
+
+	private Second second;
+
+	/**
+	 * Creates a new {@link MutableTuple} with {@literal null} as the current
+	 * values.
+	 */
+	public MutableTuple() {
+		this(null, null);
+	}
+
+	/**
+	 * Creates a new {@link MutableTuple}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 */
+	public MutableTuple(First first, Second second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	@Override
+	public First getFirst() {
+		return first;
+	}
+
+	/**
+	 * Sets the current first value of this {@link MutableTuple}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 */
+	public void setFirst(First first) {
+		this.first = first;
+	}
+
+	@Override
+	public Second getSecond() {
+		return second;
+	}
+
+	/**
+	 * Sets the current second value of this {@link MutableTuple}.
+	 * 
+	 * @param second
+	 *            The second value to be used.
+	 */
+	public void setSecond(Second second) {
+		this.second = second;
+	}
+
+	/**
+	 * Sets all current values of this {@link MutableTuple}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 */
+	public void set(First first, Second second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Creates a new {@link Tuple} with the current values of this
+	 * {@link MutableTuple}.
+	 * 
+	 * @return The created {@link Tuple}.
+	 */
+	@Override
+	public Tuple<First, Second> freeze() {
+		return new Tuple<First, Second>(first, second);
+	}
+
+	@Override
+	public String toString() {
+		return "MutableTuple [first=" + first + ", second=" + second + "]";
+	}
+
+}
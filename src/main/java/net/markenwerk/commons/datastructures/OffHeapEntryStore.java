@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link OffHeapEntryStore} is a hash map from {@code long} keys to
+ * {@code long} values that uses open addressing with linear probing and stores
+ * its keys and values in direct {@link ByteBuffer ByteBuffers}. The heap usage
+ * of an {@link OffHeapEntryStore} doesn't depend on the number of mappings and
+ * {@link Entry Entries} are only created on demand.
+ * 
+ * <p>
+ * The direct memory of an {@link OffHeapEntryStore} is released, when it is
+ * {@link OffHeapEntryStore#close() closed}. On Java versions before Java 17,
+ * the direct memory is released, when the underlying {@link ByteBuffer
+ * ByteBuffers} have been garbage collected. An {@link OffHeapEntryStore} is not
+ * thread-safe.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class OffHeapEntryStore implements Closeable {
+
+	private static final long FREE_KEY = 0;
+
+	private static final int SLOT_SIZE = 16;
+
+	private static final int PAGE_SHIFT = 20;
+
+	private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+	private static final int MINIMUM_CAPACITY = 8;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private ByteBuffer[] pages;
+
+	private int capacity;
+
+	private int size;
+
+	private int threshold;
+
+	private boolean hasFreeKey;
+
+	private long freeKeyValue;
+
+	/**
+	 * Creates a new, empty {@link OffHeapEntryStore}.
+	 */
+	public OffHeapEntryStore() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new, empty {@link OffHeapEntryStore}.
+	 * 
+	 * @param expectedSize
+	 *            The number of mappings this {@link OffHeapEntryStore} is
+	 *            expected to hold without resizing.
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative or too large.
+	 */
+	public OffHeapEntryStore(int expectedSize) throws IllegalArgumentException {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The given expected size is negative");
+		}
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the number of mappings in this {@link OffHeapEntryStore}.
+	 * 
+	 * @return The number of mappings.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether this {@link OffHeapEntryStore} has no mappings.
+	 * 
+	 * @return Whether this {@link OffHeapEntryStore} has no mappings.
+	 */
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * Returns whether this {@link OffHeapEntryStore} has a mapping for the
+	 * given key.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return Whether this {@link OffHeapEntryStore} has a mapping for the
+	 *         given key.
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed.
+	 */
+	public boolean containsKey(long key) throws IllegalStateException {
+		checkOpen();
+		return FREE_KEY == key ? hasFreeKey : -1 != indexOf(key);
+	}
+
+	/**
+	 * Returns the value that is mapped to the given key, if any, or the given
+	 * fallback value.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @param fallback
+	 *            The fallback value to be used.
+	 * @return The value or the given fallback value, if this
+	 *         {@link OffHeapEntryStore} has no mapping for the given key.
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed.
+	 */
+	public long get(long key, long fallback) throws IllegalStateException {
+		checkOpen();
+		if (FREE_KEY == key) {
+			return hasFreeKey ? freeKeyValue : fallback;
+		}
+		int index = indexOf(key);
+		return -1 == index ? fallback : valueAt(index);
+	}
+
+	/**
+	 * Creates a new {@link Entry} for the mapping of the given key, if any.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return The created {@link Entry} or {@literal null}, if this
+	 *         {@link OffHeapEntryStore} has no mapping for the given key.
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed.
+	 */
+	public Entry<Long, Long> getEntry(long key) throws IllegalStateException {
+		checkOpen();
+		if (FREE_KEY == key) {
+			return hasFreeKey ? new Entry<Long, Long>(key, freeKeyValue) : null;
+		}
+		int index = indexOf(key);
+		return -1 == index ? null : new Entry<Long, Long>(key, valueAt(index));
+	}
+
+	/**
+	 * Maps the given key to the given value.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @param value
+	 *            The value to be used.
+	 * @return Whether this {@link OffHeapEntryStore} had no mapping for the
+	 *         given key.
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed or is too
+	 *             large.
+	 */
+	public boolean put(long key, long value) throws IllegalStateException {
+		checkOpen();
+		if (FREE_KEY == key) {
+			boolean added = !hasFreeKey;
+			hasFreeKey = true;
+			freeKeyValue = value;
+			if (added) {
+				size++;
+			}
+			return added;
+		}
+		int index = indexOf(key);
+		if (-1 != index) {
+			setValueAt(index, value);
+			return false;
+		}
+		if (size >= threshold) {
+			resize(capacity << 1);
+		}
+		int mask = capacity - 1;
+		index = slot(key, mask);
+		while (FREE_KEY != keyAt(index)) {
+			index = (index + 1) & mask;
+		}
+		setAt(index, key, value);
+		size++;
+		return true;
+	}
+
+	/**
+	 * Maps the key of the given {@link Entry} to its value.
+	 * 
+	 * @param entry
+	 *            The {@link Entry} to be used.
+	 * @return Whether this {@link OffHeapEntryStore} had no mapping for the
+	 *         key.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Entry} is {@literal null} or has a
+	 *             {@literal null} key or value.
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed or is too
+	 *             large.
+	 */
+	public boolean put(Entry<? extends Long, ? extends Long> entry) throws IllegalArgumentException,
+			IllegalStateException {
+		if (null == entry) {
+			throw new IllegalArgumentException("The given entry is null");
+		}
+		Long key = entry.getKey();
+		if (null == key) {
+			throw new IllegalArgumentException("The given entry has a null key");
+		}
+		Long value = entry.getValue();
+		if (null == value) {
+			throw new IllegalArgumentException("The given entry has a null value");
+		}
+		return put(key.longValue(), value.longValue());
+	}
+
+	/**
+	 * Removes the mapping for the given key, if any.
+	 * 
+	 * @param key
+	 *            The key to be used.
+	 * @return Whether this {@link OffHeapEntryStore} had a mapping for the
+	 *         given key.
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed.
+	 */
+	public boolean remove(long key) throws IllegalStateException {
+		checkOpen();
+		if (FREE_KEY == key) {
+			boolean removed = hasFreeKey;
+			hasFreeKey = false;
+			freeKeyValue = 0;
+			if (removed) {
+				size--;
+			}
+			return removed;
+		}
+		int index = indexOf(key);
+		if (-1 == index) {
+			return false;
+		}
+		int mask = capacity - 1;
+		int gap = index;
+		int next = (gap + 1) & mask;
+		long candidate;
+		while (FREE_KEY != (candidate = keyAt(next))) {
+			int distance = (next - slot(candidate, mask)) & mask;
+			if (distance >= ((next - gap) & mask)) {
+				setAt(gap, candidate, valueAt(next));
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		setAt(gap, FREE_KEY, 0);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Removes all mappings from this {@link OffHeapEntryStore}.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link OffHeapEntryStore} has been closed.
+	 */
+	public void clear() throws IllegalStateException {
+		checkOpen();
+		for (int i = 0; i < capacity; i++) {
+			setAt(i, FREE_KEY, 0);
+		}
+		hasFreeKey = false;
+		freeKeyValue = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of bytes of direct memory that are used by this
+	 * {@link OffHeapEntryStore}.
+	 * 
+	 * @return The number of bytes.
+	 */
+	public long getMemoryUsage() {
+		return null == pages ? 0 : (long) capacity * SLOT_SIZE;
+	}
+
+	/**
+	 * Removes all mappings from this {@link OffHeapEntryStore} and releases its
+	 * direct memory. Calling this method more than once has no effect.
+	 */
+	@Override
+	public void close() {
+		if (null != pages) {
+			free(pages);
+			pages = null;
+			hasFreeKey = false;
+			size = 0;
+		}
+	}
+
+	private void checkOpen() throws IllegalStateException {
+		if (null == pages) {
+			throw new IllegalStateException("This store has been closed");
+		}
+	}
+
+	private long keyAt(int index) {
+		return pages[index >>> PAGE_SHIFT].getLong((index & PAGE_MASK) * SLOT_SIZE);
+	}
+
+	private long valueAt(int index) {
+		return pages[index >>> PAGE_SHIFT].getLong((index & PAGE_MASK) * SLOT_SIZE + 8);
+	}
+
+	private void setValueAt(int index, long value) {
+		pages[index >>> PAGE_SHIFT].putLong((index & PAGE_MASK) * SLOT_SIZE + 8, value);
+	}
+
+	private void setAt(int index, long key, long value) {
+		ByteBuffer page = pages[index >>> PAGE_SHIFT];
+		int offset = (index & PAGE_MASK) * SLOT_SIZE;
+		page.putLong(offset, key);
+		page.putLong(offset + 8, value);
+	}
+
+	private int indexOf(long key) {
+		int mask = capacity - 1;
+		int index = slot(key, mask);
+		long candidate;
+		while (FREE_KEY != (candidate = keyAt(index))) {
+			if (candidate == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void resize(int capacity) {
+		if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("This store is too large");
+		}
+		ByteBuffer[] oldPages = pages;
+		int oldCapacity = this.capacity;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldCapacity; i++) {
+			ByteBuffer oldPage = oldPages[i >>> PAGE_SHIFT];
+			int offset = (i & PAGE_MASK) * SLOT_SIZE;
+			long key = oldPage.getLong(offset);
+			if (FREE_KEY != key) {
+				int index = slot(key, mask);
+				while (FREE_KEY != keyAt(index)) {
+					index = (index + 1) & mask;
+				}
+				setAt(index, key, oldPage.getLong(offset + 8));
+			}
+		}
+		free(oldPages);
+	}
+
+	private void allocate(int capacity) {
+		int pageCapacity = Math.min(capacity, 1 << PAGE_SHIFT);
+		ByteBuffer[] pages = new ByteBuffer[capacity / pageCapacity];
+		for (int i = 0; i < pages.length; i++) {
+			pages[i] = DirectMemory.allocate(pageCapacity * SLOT_SIZE);
+		}
+		this.pages = pages;
+		this.capacity = capacity;
+		threshold = capacity / 4 * 3;
+	}
+
+	private static void free(ByteBuffer[] pages) {
+		for (ByteBuffer page : pages) {
+			DirectMemory.free(page);
+		}
+	}
+
+	private static int capacityFor(int expectedSize) throws IllegalArgumentException {
+		int capacity = MINIMUM_CAPACITY;
+		while (capacity / 4 * 3 < expectedSize) {
+			if (capacity == MAXIMUM_CAPACITY) {
+				throw new IllegalArgumentException("The given expected size is too large");
+			}
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int slot(long key, int mask) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		int folded = (int) (hash ^ (hash >>> 32));
+		return (folded ^ (folded >>> 16)) & mask;
+	}
+
+	@Override
+	public String toString() {
+		return "OffHeapEntryStore [size=" + size + "]";
+	}
+
+}
@@ -22,6 +22,12 @@
 package net.markenwerk.commons.datastructures;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import net.markenwerk.commons.exceptions.ProvisioningException;
 import net.markenwerk.commons.interfaces.Converter;
@@ -38,6 +44,16 @@ import net.markenwerk.commons.interfaces.Provider;
  */
 public final class Optional<Payload> {
 
+	private static final Optional<?> EMPTY = new Optional<Object>();
+
+	private static final Optional<?>[] SHARED = new Optional<?>[SharedPayloads.SIZE];
+
+	static {
+		for (int i = 0; i < SHARED.length; i++) {
+			SHARED[i] = new Optional<Object>(SharedPayloads.valueAt(i));
+		}
+	}
+
 	private final boolean hasValue;
 
 	private final Payload value;
@@ -77,6 +93,60 @@ public final class Optional<Payload> {
 		}
 	}
 
+	/**
+	 * Returns an {@link Optional} without a value. The returned {@link Optional}
+	 * is a shared instance.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @return An {@link Optional} without a value.
+	 * @since 1.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Payload> Optional<Payload> empty() {
+		return (Optional<Payload>) EMPTY;
+	}
+
+	/**
+	 * Returns an {@link Optional} with the given value. Like
+	 * {@link Optional#Optional(Object)}, this retains {@literal null}-values.
+	 * For {@literal null}, {@link Boolean#FALSE}, {@link Boolean#TRUE} and the
+	 * {@link Integer} instances returned by {@link Integer#valueOf(int)} for
+	 * values from {@literal -128} to {@literal 127}, the returned
+	 * {@link Optional} is a shared instance.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param value
+	 *            The value to be used.
+	 * @return An {@link Optional} with the given value.
+	 * @since 1.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Payload> Optional<Payload> of(Payload value) {
+		int index = SharedPayloads.indexOf(value);
+		return -1 == index ? new Optional<Payload>(value) : (Optional<Payload>) SHARED[index];
+	}
+
+	/**
+	 * Returns an {@link Optional} with the given value or, if the given value is
+	 * {@literal null}, the shared {@link Optional#empty() empty}
+	 * {@link Optional}. Like {@link Optional#of(Object)}, this returns shared
+	 * instances for {@link Boolean#FALSE}, {@link Boolean#TRUE} and small
+	 * {@link Integer} instances.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param value
+	 *            The value to be used.
+	 * @return An {@link Optional} with the given value or an {@link Optional}
+	 *         without a value.
+	 * @since 1.4.0
+	 */
+	public static <Payload> Optional<Payload> ofNullable(Payload value) {
+		return null == value ? Optional.<Payload> empty() : Optional.of(value);
+	}
+
 	/**
 	 * Returns whether this {@link Optional} has a value.
 	 * 
@@ -172,6 +242,75 @@ public final class Optional<Payload> {
 		return hasValue ? selection.onValue(value) : selection.onNoValue();
 	}
 
+	/**
+	 * Calls the appropriate method on the given {@link OptionalSelection}
+	 * without blocking the calling thread on
+	 * {@link OptionalSelection#onValue(Object)}.
+	 * 
+	 * <p>
+	 * If this {@link Optional} has a value,
+	 * {@link OptionalSelection#onValue(Object)} is called by a task that is
+	 * submitted to the given {@link Executor}. Because the task is allowed to
+	 * block, an {@link Executor} that runs each task in its own virtual thread
+	 * is a good fit for selections that call slow backends. The returned
+	 * {@link Future} can be used to cancel the task.
+	 * 
+	 * <p>
+	 * If this {@link Optional} has no value,
+	 * {@link OptionalSelection#onNoValue()} is called synchronously, nothing is
+	 * submitted to the given {@link Executor} and an already completed
+	 * {@link Future} is returned. If the result is {@literal null} or
+	 * {@link Optional#empty()}, the returned {@link Future} is a shared
+	 * instance.
+	 * 
+	 * <p>
+	 * In both cases, an exception thrown by the given
+	 * {@link OptionalSelection} is not thrown by this method, but by
+	 * {@link Future#get()} as the cause of an {@link ExecutionException}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param selection
+	 *            The {@link OptionalSelection} to be used.
+	 * @param executor
+	 *            The {@link Executor} to be used.
+	 * @return A {@link Future} of the result value returned by the given
+	 *         {@link OptionalSelection}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalSelection} or the given
+	 *             {@link Executor} is {@literal null}.
+	 * @throws RejectedExecutionException
+	 *             If the given {@link Executor} rejected the task.
+	 * @since 1.4.0
+	 */
+	public <Result> Future<Result> selectAsync(final OptionalSelection<? super Payload, ? extends Result> selection,
+			Executor executor) throws IllegalArgumentException, RejectedExecutionException {
+		if (null == selection) {
+			throw new IllegalArgumentException("The given selection is null");
+		}
+		if (null == executor) {
+			throw new IllegalArgumentException("The given executor is null");
+		}
+		if (!hasValue) {
+			try {
+				return CompletedFuture.<Result> of(selection.onNoValue());
+			} catch (Throwable throwable) {
+				return CompletedFuture.<Result> failed(throwable);
+			}
+		}
+		FutureTask<Result> task = new FutureTask<Result>(new Callable<Result>() {
+
+			@Override
+			public Result call() {
+				return selection.onValue(value);
+			}
+
+		});
+		executor.execute(task);
+		return task;
+	}
+
 	@Override
 	public int hashCode() {
 		return 31 * (hasValue ? 1231 : 1237) + ((null == value) ? 0 : value.hashCode());
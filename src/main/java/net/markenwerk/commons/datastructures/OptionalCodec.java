@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link OptionalCodec} is a {@link Codec} for {@link Optional Optionals}
+ * that writes a one-byte tag, followed by the value written with the given
+ * component {@link Codec}, if the {@link Optional} {@link Optional#hasValue()
+ * has} a value.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class OptionalCodec<Payload> implements Codec<Optional<Payload>> {
+
+	private final Codec<Payload> codec;
+
+	/**
+	 * Creates a new {@link OptionalCodec}.
+	 * 
+	 * @param codec
+	 *            The {@link Codec} to be used for the value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Codec} is {@literal null}.
+	 */
+	public OptionalCodec(Codec<Payload> codec) throws IllegalArgumentException {
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		this.codec = codec;
+	}
+
+	@Override
+	public void encode(Optional<Payload> value, DataOutput output) throws IOException {
+		if (null == value) {
+			throw new IllegalArgumentException("The given value is null");
+		}
+		if (value.hasValue()) {
+			output.writeByte(Codecs.TAG_PRESENT);
+			codec.encode(value.getValue(), output);
+		} else {
+			output.writeByte(Codecs.TAG_ABSENT);
+		}
+	}
+
+	@Override
+	public Optional<Payload> decode(DataInput input) throws IOException {
+		if (Codecs.TAG_PRESENT == Codecs.readTag(input)) {
+			return Optional.of(codec.decode(input));
+		} else {
+			return Optional.empty();
+		}
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+/**
+ * An {@link OptionalDouble} is a simple immutable container class that may holds a
+ * single {@code double} value. Unlike an {@link Optional} of {@link Double}, it
+ * never boxes its value.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class OptionalDouble {
+
+	private static final OptionalDouble EMPTY = new OptionalDouble();
+
+	private final boolean hasValue;
+
+	private final double value;
+
+	/**
+	 * Creates a new {@link OptionalDouble} without a value.
+	 */
+	public OptionalDouble() {
+		hasValue = false;
+		value = 0d;
+	}
+
+	/**
+	 * Creates a new {@link OptionalDouble}.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public OptionalDouble(double value) {
+		hasValue = true;
+		this.value = value;
+	}
+
+	/**
+	 * Returns an {@link OptionalDouble} without a value. The returned
+	 * {@link OptionalDouble} is a shared instance.
+	 * 
+	 * @return An {@link OptionalDouble} without a value.
+	 */
+	public static OptionalDouble empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an {@link OptionalDouble} with the given value.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 * @return An {@link OptionalDouble} with the given value.
+	 */
+	public static OptionalDouble of(double value) {
+		return new OptionalDouble(value);
+	}
+
+	/**
+	 * Returns whether this {@link OptionalDouble} has a value.
+	 * 
+	 * @return Whether this {@link OptionalDouble} has a value.
+	 */
+	public boolean hasValue() {
+		return hasValue;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalDouble} has been created with, if any.
+	 * 
+	 * @return The value.
+	 * @throws NoSuchElementException
+	 *             If this {@link OptionalDouble} has no value.
+	 */
+	public double getValue() throws NoSuchElementException {
+		if (!hasValue) {
+			throw new NoSuchElementException("This optional has no value");
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalDouble} has been created with, if any,
+	 * or the given fallback value.
+	 * 
+	 * @param fallback
+	 *            The fallback value to be used.
+	 * @return The value.
+	 */
+	public double getValue(double fallback) {
+		return hasValue ? value : fallback;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalDouble} has been created with, if any,
+	 * or a value provided by the given {@link DoubleProvider}.
+	 * 
+	 * @param provider
+	 *            The {@link DoubleProvider} to be used.
+	 * @return The value.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleProvider} is {@literal null}.
+	 * @throws ProvisioningException
+	 *             If the given {@link DoubleProvider} failed to provide a
+	 *             fallback value.
+	 */
+	public double getValue(DoubleProvider provider) throws IllegalArgumentException, ProvisioningException {
+		if (null == provider) {
+			throw new IllegalArgumentException("The given provider is null");
+		}
+		return hasValue ? value : provider.provide();
+	}
+
+	/**
+	 * Converts the value of this {@link OptionalDouble}, if present, and returns
+	 * another {@link OptionalDouble}.
+	 * 
+	 * @param converter
+	 *            The {@link DoubleConverter} to be used.
+	 * @return The converted {@link OptionalDouble}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleConverter} is {@literal null}.
+	 */
+	public OptionalDouble convert(DoubleConverter converter) throws IllegalArgumentException {
+		return select(new ConvertingOptionalDoubleSelection(converter));
+	}
+
+	/**
+	 * Calls the appropriate method on the given {@link OptionalDoubleSelection}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param selection
+	 *            The {@link OptionalDoubleSelection} to be used.
+	 * @return The result value returned by the given
+	 *         {@link OptionalDoubleSelection}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalDoubleSelection} is {@literal null}.
+	 */
+	public <Result> Result select(OptionalDoubleSelection<? extends Result> selection) throws IllegalArgumentException {
+		if (null == selection) {
+			throw new IllegalArgumentException("The given selection is null");
+		}
+		return hasValue ? selection.onValue(value) : selection.onNoValue();
+	}
+
+	@Override
+	public int hashCode() {
+		long bits = Double.doubleToLongBits(value);
+		return 31 * (hasValue ? 1231 : 1237) + (int) (bits ^ (bits >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		} else if (object == null) {
+			return false;
+		} else if (getClass() != object.getClass()) {
+			return false;
+		}
+		OptionalDouble other = (OptionalDouble) object;
+		if (hasValue != other.hasValue) {
+			return false;
+		} else if (Double.doubleToLongBits(value) != Double.doubleToLongBits(other.value)) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "OptionalDouble [hasValue=" + hasValue + ", value=" + (hasValue ? String.valueOf(value) : null) + "]";
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+/**
+ * An {@link OptionalInt} is a simple immutable container class that may holds a
+ * single {@code int} value. Unlike an {@link Optional} of {@link Integer}, it
+ * never boxes its value.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class OptionalInt {
+
+	private static final OptionalInt EMPTY = new OptionalInt();
+
+	private final boolean hasValue;
+
+	private final int value;
+
+	/**
+	 * Creates a new {@link OptionalInt} without a value.
+	 */
+	public OptionalInt() {
+		hasValue = false;
+		value = 0;
+	}
+
+	/**
+	 * Creates a new {@link OptionalInt}.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public OptionalInt(int value) {
+		hasValue = true;
+		this.value = value;
+	}
+
+	/**
+	 * Returns an {@link OptionalInt} without a value. The returned
+	 * {@link OptionalInt} is a shared instance.
+	 * 
+	 * @return An {@link OptionalInt} without a value.
+	 */
+	public static OptionalInt empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an {@link OptionalInt} with the given value.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 * @return An {@link OptionalInt} with the given value.
+	 */
+	public static OptionalInt of(int value) {
+		return new OptionalInt(value);
+	}
+
+	/**
+	 * Returns whether this {@link OptionalInt} has a value.
+	 * 
+	 * @return Whether this {@link OptionalInt} has a value.
+	 */
+	public boolean hasValue() {
+		return hasValue;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalInt} has been created with, if any.
+	 * 
+	 * @return The value.
+	 * @throws NoSuchElementException
+	 *             If this {@link OptionalInt} has no value.
+	 */
+	public int getValue() throws NoSuchElementException {
+		if (!hasValue) {
+			throw new NoSuchElementException("This optional has no value");
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalInt} has been created with, if any,
+	 * or the given fallback value.
+	 * 
+	 * @param fallback
+	 *            The fallback value to be used.
+	 * @return The value.
+	 */
+	public int getValue(int fallback) {
+		return hasValue ? value : fallback;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalInt} has been created with, if any,
+	 * or a value provided by the given {@link IntProvider}.
+	 * 
+	 * @param provider
+	 *            The {@link IntProvider} to be used.
+	 * @return The value.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntProvider} is {@literal null}.
+	 * @throws ProvisioningException
+	 *             If the given {@link IntProvider} failed to provide a
+	 *             fallback value.
+	 */
+	public int getValue(IntProvider provider) throws IllegalArgumentException, ProvisioningException {
+		if (null == provider) {
+			throw new IllegalArgumentException("The given provider is null");
+		}
+		return hasValue ? value : provider.provide();
+	}
+
+	/**
+	 * Converts the value of this {@link OptionalInt}, if present, and returns
+	 * another {@link OptionalInt}.
+	 * 
+	 * @param converter
+	 *            The {@link IntConverter} to be used.
+	 * @return The converted {@link OptionalInt}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntConverter} is {@literal null}.
+	 */
+	public OptionalInt convert(IntConverter converter) throws IllegalArgumentException {
+		return select(new ConvertingOptionalIntSelection(converter));
+	}
+
+	/**
+	 * Calls the appropriate method on the given {@link OptionalIntSelection}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param selection
+	 *            The {@link OptionalIntSelection} to be used.
+	 * @return The result value returned by the given
+	 *         {@link OptionalIntSelection}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalIntSelection} is {@literal null}.
+	 */
+	public <Result> Result select(OptionalIntSelection<? extends Result> selection) throws IllegalArgumentException {
+		if (null == selection) {
+			throw new IllegalArgumentException("The given selection is null");
+		}
+		return hasValue ? selection.onValue(value) : selection.onNoValue();
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (hasValue ? 1231 : 1237) + value;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		} else if (object == null) {
+			return false;
+		} else if (getClass() != object.getClass()) {
+			return false;
+		}
+		OptionalInt other = (OptionalInt) object;
+		if (hasValue != other.hasValue) {
+			return false;
+		} else if (value != other.value) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "OptionalInt [hasValue=" + hasValue + ", value=" + (hasValue ? String.valueOf(value) : null) + "]";
+	}
+
+}
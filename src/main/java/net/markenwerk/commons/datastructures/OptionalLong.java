@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+/**
+ * An {@link OptionalLong} is a simple immutable container class that may holds a
+ * single {@code long} value. Unlike an {@link Optional} of {@link Long}, it
+ * never boxes its value.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class OptionalLong {
+
+	private static final OptionalLong EMPTY = new OptionalLong();
+
+	private final boolean hasValue;
+
+	private final long value;
+
+	/**
+	 * Creates a new {@link OptionalLong} without a value.
+	 */
+	public OptionalLong() {
+		hasValue = false;
+		value = 0L;
+	}
+
+	/**
+	 * Creates a new {@link OptionalLong}.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public OptionalLong(long value) {
+		hasValue = true;
+		this.value = value;
+	}
+
+	/**
+	 * Returns an {@link OptionalLong} without a value. The returned
+	 * {@link OptionalLong} is a shared instance.
+	 * 
+	 * @return An {@link OptionalLong} without a value.
+	 */
+	public static OptionalLong empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an {@link OptionalLong} with the given value.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 * @return An {@link OptionalLong} with the given value.
+	 */
+	public static OptionalLong of(long value) {
+		return new OptionalLong(value);
+	}
+
+	/**
+	 * Returns whether this {@link OptionalLong} has a value.
+	 * 
+	 * @return Whether this {@link OptionalLong} has a value.
+	 */
+	public boolean hasValue() {
+		return hasValue;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalLong} has been created with, if any.
+	 * 
+	 * @return The value.
+	 * @throws NoSuchElementException
+	 *             If this {@link OptionalLong} has no value.
+	 */
+	public long getValue() throws NoSuchElementException {
+		if (!hasValue) {
+			throw new NoSuchElementException("This optional has no value");
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalLong} has been created with, if any,
+	 * or the given fallback value.
+	 * 
+	 * @param fallback
+	 *            The fallback value to be used.
+	 * @return The value.
+	 */
+	public long getValue(long fallback) {
+		return hasValue ? value : fallback;
+	}
+
+	/**
+	 * Returns the value this {@link OptionalLong} has been created with, if any,
+	 * or a value provided by the given {@link LongProvider}.
+	 * 
+	 * @param provider
+	 *            The {@link LongProvider} to be used.
+	 * @return The value.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongProvider} is {@literal null}.
+	 * @throws ProvisioningException
+	 *             If the given {@link LongProvider} failed to provide a
+	 *             fallback value.
+	 */
+	public long getValue(LongProvider provider) throws IllegalArgumentException, ProvisioningException {
+		if (null == provider) {
+			throw new IllegalArgumentException("The given provider is null");
+		}
+		return hasValue ? value : provider.provide();
+	}
+
+	/**
+	 * Converts the value of this {@link OptionalLong}, if present, and returns
+	 * another {@link OptionalLong}.
+	 * 
+	 * @param converter
+	 *            The {@link LongConverter} to be used.
+	 * @return The converted {@link OptionalLong}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongConverter} is {@literal null}.
+	 */
+	public OptionalLong convert(LongConverter converter) throws IllegalArgumentException {
+		return select(new ConvertingOptionalLongSelection(converter));
+	}
+
+	/**
+	 * Calls the appropriate method on the given {@link OptionalLongSelection}.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param selection
+	 *            The {@link OptionalLongSelection} to be used.
+	 * @return The result value returned by the given
+	 *         {@link OptionalLongSelection}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link OptionalLongSelection} is {@literal null}.
+	 */
+	public <Result> Result select(OptionalLongSelection<? extends Result> selection) throws IllegalArgumentException {
+		if (null == selection) {
+			throw new IllegalArgumentException("The given selection is null");
+		}
+		return hasValue ? selection.onValue(value) : selection.onNoValue();
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (hasValue ? 1231 : 1237) + (int) (value ^ (value >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		} else if (object == null) {
+			return false;
+		} else if (getClass() != object.getClass()) {
+			return false;
+		}
+		OptionalLong other = (OptionalLong) object;
+		if (hasValue != other.hasValue) {
+			return false;
+		} else if (value != other.value) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "OptionalLong [hasValue=" + hasValue + ", value=" + (hasValue ? String.valueOf(value) : null) + "]";
+	}
+
+}
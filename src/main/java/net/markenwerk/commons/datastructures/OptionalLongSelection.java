@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * An {@link OptionalLongSelection} can be used to
+ * {@link OptionalLong#select(OptionalLongSelection) handle} an
+ * {@link OptionalLong} and obtain a result value, whether the
+ * {@link OptionalLong} {@link OptionalLong#hasValue() has} a value or not.
+ * 
+ * @param <Result>
+ *            The result type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public interface OptionalLongSelection<Result> {
+
+	/**
+	 * Called by the {@link OptionalLong#select(OptionalLongSelection) handled}
+	 * {@link OptionalLong} if it {@link OptionalLong#hasValue() has} no value.
+	 * 
+	 * @return A result value.
+	 */
+	public Result onNoValue();
+
+	/**
+	 * Called by the {@link OptionalLong#select(OptionalLongSelection) handled}
+	 * {@link OptionalLong} if it {@link OptionalLong#hasValue() has} a value.
+	 * 
+	 * @param payload
+	 *            The value of the handled {@link OptionalLong}.
+	 * @return A result value.
+	 */
+	public Result onValue(long payload);
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * {@link PackedIntPair} provides static methods to encode two {@code int}
+ * values into a single {@code long} value, so that pairs of {@code int} values
+ * can be stored in plain {@code long[]} arrays without creating a
+ * {@link Pair} of {@link Integer} for each pair.
+ * 
+ * <p>
+ * The first value is stored in the upper 32 bits, the second value in the lower
+ * 32 bits. Two packed values are equal if and only if the equivalent
+ * {@link Pair Pairs} are equal and {@link PackedIntPair#hashCode(long)} yields
+ * the same value as {@link Pair#hashCode()}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class PackedIntPair {
+
+	private static final long LOWER_BITS = 0xFFFFFFFFL;
+
+	private PackedIntPair() {
+	}
+
+	/**
+	 * Encodes the given values into a single {@code long} value.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 * @return The packed value.
+	 */
+	public static long pack(int first, int second) {
+		return ((long) first << 32) | (second & LOWER_BITS);
+	}
+
+	/**
+	 * Returns the first value of the given packed value.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @return The first value.
+	 */
+	public static int first(long packed) {
+		return (int) (packed >>> 32);
+	}
+
+	/**
+	 * Returns the given packed value with the given first value and the second
+	 * value from the given packed value.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @param first
+	 *            The first value to be used.
+	 * @return The packed value.
+	 */
+	public static long withFirst(long packed, int first) {
+		return ((long) first << 32) | (packed & LOWER_BITS);
+	}
+
+	/**
+	 * Returns the second value of the given packed value.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @return The second value.
+	 */
+	public static int second(long packed) {
+		return (int) packed;
+	}
+
+	/**
+	 * Returns the given packed value with the given second value and the first
+	 * value from the given packed value.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @param second
+	 *            The second value to be used.
+	 * @return The packed value.
+	 */
+	public static long withSecond(long packed, int second) {
+		return (packed & ~LOWER_BITS) | (second & LOWER_BITS);
+	}
+
+	/**
+	 * Returns whether the given packed values are equal. This is the case if
+	 * and only if the equivalent {@link Pair Pairs} are equal.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @param other
+	 *            The other packed value.
+	 * @return Whether the given packed values are equal.
+	 */
+	public static boolean equals(long packed, long other) {
+		return packed == other;
+	}
+
+	/**
+	 * Returns a hash code for the given packed value, that is equal to the
+	 * {@link Pair#hashCode() hash code} of the equivalent {@link Pair}.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @return The hash code.
+	 */
+	public static int hashCode(long packed) {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + first(packed);
+		result = prime * result + second(packed);
+		return result;
+	}
+
+	/**
+	 * Creates a new {@link Pair} with the values of the given packed value.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @return The created {@link Pair}.
+	 */
+	public static Pair<Integer> toPair(long packed) {
+		return new Pair<Integer>(first(packed), second(packed));
+	}
+
+	/**
+	 * Encodes the values of the given {@link Pair} into a single {@code long}
+	 * value.
+	 * 
+	 * @param pair
+	 *            The {@link Pair} to be used.
+	 * @return The packed value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Pair} is {@literal null} or holds a
+	 *             {@literal null} value.
+	 */
+	public static long fromPair(Pair<Integer> pair) throws IllegalArgumentException {
+		if (null == pair) {
+			throw new IllegalArgumentException("The given pair is null");
+		}
+		Integer first = pair.getFirst();
+		Integer second = pair.getSecond();
+		if (null == first || null == second) {
+			throw new IllegalArgumentException("The given pair holds a null value");
+		}
+		return pack(first, second);
+	}
+
+	/**
+	 * Returns a string representation of the given packed value.
+	 * 
+	 * @param packed
+	 *            The packed value.
+	 * @return The string representation.
+	 */
+	public static String toString(long packed) {
+		return "PackedIntPair [first=" + first(packed) + ", second=" + second(packed) + "]";
+	}
+
+}
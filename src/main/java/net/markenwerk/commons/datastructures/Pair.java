@@ -25,6 +25,12 @@ package net.markenwerk.commons.datastructures;
  * A {@link Pair} is a simple immutable container class that holds two values of
  * a similar type.
  * 
+ * <p>
+ * A {@link Pair} caches its hash code, if all of its values are known to be
+ * immutable (e.g. strings, boxed primitives, enum constants or other container
+ * classes that only hold such values). Otherwise, the hash code is calculated
+ * on every call, because a value might be mutated.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
@@ -36,6 +42,8 @@ public final class Pair<Payload> {
 
 	private final Payload second;
 
+	private int hash;
+
 	/**
 	 * Creates a new {@link Pair}.
 	 * 
@@ -93,13 +101,23 @@ public final class Pair<Payload> {
 
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((first == null) ? 0 : first.hashCode());
-		result = prime * result + ((second == null) ? 0 : second.hashCode());
+		int result = hash;
+		if (0 == result) {
+			final int prime = 31;
+			result = 1;
+			result = prime * result + ((first == null) ? 0 : first.hashCode());
+			result = prime * result + ((second == null) ? 0 : second.hashCode());
+			if (hasImmutableValues()) {
+				hash = result;
+			}
+		}
 		return result;
 	}
 
+	boolean hasImmutableValues() {
+		return 0 != hash || (Immutables.isImmutable(first) && Immutables.isImmutable(second));
+	}
+
 	@Override
 	public boolean equals(Object object) {
 		if (this == object) {
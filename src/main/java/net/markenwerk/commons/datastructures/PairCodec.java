@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link PairCodec} is a {@link Codec} for {@link Pair Pairs} that writes
+ * both values with the given component {@link Codec}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class PairCodec<Payload> implements Codec<Pair<Payload>> {
+
+	private final Codec<Payload> codec;
+
+	/**
+	 * Creates a new {@link PairCodec}.
+	 * 
+	 * @param codec
+	 *            The {@link Codec} to be used for both values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Codec} is {@literal null}.
+	 */
+	public PairCodec(Codec<Payload> codec) throws IllegalArgumentException {
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		this.codec = codec;
+	}
+
+	@Override
+	public void encode(Pair<Payload> value, DataOutput output) throws IOException {
+		if (null == value) {
+			throw new IllegalArgumentException("The given value is null");
+		}
+		codec.encode(value.getFirst(), output);
+		codec.encode(value.getSecond(), output);
+	}
+
+	@Override
+	public Pair<Payload> decode(DataInput input) throws IOException {
+		Payload first = codec.decode(input);
+		Payload second = codec.decode(input);
+		return new Pair<Payload>(first, second);
+	}
+
+}
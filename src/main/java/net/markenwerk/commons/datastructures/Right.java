@@ -21,6 +21,8 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import net.markenwerk.commons.interfaces.Converter;
+
 /**
  * An {@link Right} is one of two distinct simple immutable container class that
  * holds a single value.
@@ -37,6 +39,14 @@ package net.markenwerk.commons.datastructures;
 @SuppressWarnings("hiding")
 public final class Right<Left, Payload> extends Either<Left, Payload> {
 
+	private static final Right<?, ?>[] SHARED = new Right<?, ?>[SharedPayloads.SIZE];
+
+	static {
+		for (int i = 0; i < SHARED.length; i++) {
+			SHARED[i] = new Right<Object, Object>(SharedPayloads.valueAt(i));
+		}
+	}
+
 	private final Payload value;
 
 	/**
@@ -49,6 +59,32 @@ public final class Right<Left, Payload> extends Either<Left, Payload> {
 		this.value = value;
 	}
 
+	/**
+	 * Returns a {@link Right} with the given value. For {@literal null},
+	 * {@link Boolean#FALSE}, {@link Boolean#TRUE} and the {@link Integer}
+	 * instances returned by {@link Integer#valueOf(int)} for values from
+	 * {@literal -128} to {@literal 127}, the returned {@link Right} is a
+	 * shared instance.
+	 * 
+	 * @param <Left>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Left}
+	 *            {@link Either}.
+	 * @param <Payload>
+	 *            The type of a
+	 *            {@link net.markenwerk.commons.datastructures.Right}
+	 *            {@link Either}.
+	 * @param value
+	 *            The value to be used.
+	 * @return A {@link Right} with the given value.
+	 * @since 1.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Left, Payload> Right<Left, Payload> of(Payload value) {
+		int index = SharedPayloads.indexOf(value);
+		return -1 == index ? new Right<Left, Payload>(value) : (Right<Left, Payload>) SHARED[index];
+	}
+
 	@Override
 	public boolean isLeft() {
 		return false;
@@ -69,6 +105,57 @@ public final class Right<Left, Payload> extends Either<Left, Payload> {
 		return value;
 	}
 
+	@Override
+	public <Result> Result fold(Converter<? super Left, ? extends Result> leftConverter,
+			Converter<? super Payload, ? extends Result> rightConverter) throws IllegalArgumentException {
+		if (null == leftConverter) {
+			throw new IllegalArgumentException("The given left converter is null");
+		}
+		if (null == rightConverter) {
+			throw new IllegalArgumentException("The given right converter is null");
+		}
+		return rightConverter.convert(value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <Result> Either<Result, Payload> mapLeft(Converter<? super Left, ? extends Result> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		return (Either<Result, Payload>) this;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <Result> Either<Left, Result> mapRight(Converter<? super Payload, ? extends Result> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		Result result = converter.convert(value);
+		if (result == value) {
+			return (Either<Left, Result>) this;
+		}
+		return Right.<Left, Result> of(result);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <Result> Either<Left, Result> flatMap(
+			Converter<? super Payload, ? extends Either<? extends Left, ? extends Result>> converter)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		Either<Left, Result> result = (Either<Left, Result>) converter.convert(value);
+		if (null == result) {
+			throw new IllegalArgumentException("The given converter returned null");
+		}
+		return result;
+	}
+
 	@Override
 	public int hashCode() {
 		return null == value ? 0 : value.hashCode();
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * Calculates the number and sizes of independently locked segments and
+ * selects the segment for a key. Used by {@link AbstractInterner},
+ * {@link LruInterner} and {@link MemoizingOptionalSelection}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+final class Segments {
+
+	static final int MAXIMUM_CONCURRENCY_LEVEL = 1 << 30;
+
+	private Segments() {
+	}
+
+	/**
+	 * Returns the smallest power of two that is not less than the given
+	 * concurrency level.
+	 */
+	static int numberOfSegments(int concurrencyLevel) throws IllegalArgumentException {
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("The given concurrency level is not positive");
+		}
+		if (concurrencyLevel > MAXIMUM_CONCURRENCY_LEVEL) {
+			throw new IllegalArgumentException("The given concurrency level is too large");
+		}
+		int numberOfSegments = 1;
+		while (numberOfSegments < concurrencyLevel) {
+			numberOfSegments <<= 1;
+		}
+		return numberOfSegments;
+	}
+
+	/**
+	 * Returns the smallest power of two that is not less than the given
+	 * concurrency level, reduced to the largest power of two that is not
+	 * greater than the given maximum size, such that every segment can hold at
+	 * least one element.
+	 */
+	static int numberOfSegments(int maximumSize, int concurrencyLevel) throws IllegalArgumentException {
+		return Integer.highestOneBit(Math.min(maximumSize, numberOfSegments(concurrencyLevel)));
+	}
+
+	/**
+	 * Returns the size of the segment with the given index, such that the
+	 * sizes of all segments add up to the given maximum size.
+	 */
+	static int segmentSize(int maximumSize, int numberOfSegments, int index) {
+		return maximumSize / numberOfSegments + (index < maximumSize % numberOfSegments ? 1 : 0);
+	}
+
+	/**
+	 * Returns the index of the segment for the given key.
+	 */
+	static int indexOf(Object key, int mask) {
+		int hash = null == key ? 0 : key.hashCode();
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+}
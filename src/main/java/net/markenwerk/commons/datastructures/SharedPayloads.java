@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * {@link SharedPayloads} enumerates the payload values for which immutable
+ * container classes provide shared instances: {@literal null},
+ * {@link Boolean#FALSE}, {@link Boolean#TRUE} and the {@link Integer}
+ * instances that are cached by {@link Integer#valueOf(int)} for values from
+ * {@literal -128} to {@literal 127}.
+ * 
+ * <p>
+ * Only these exact instances are shared, so that a container that is returned
+ * for a payload value always holds the identical payload value.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+final class SharedPayloads {
+
+	private static final int LOWEST_INTEGER = -128;
+
+	private static final int HIGHEST_INTEGER = 127;
+
+	private static final int FIRST_INTEGER_INDEX = 3;
+
+	/**
+	 * The number of shared payload values.
+	 */
+	static final int SIZE = FIRST_INTEGER_INDEX + HIGHEST_INTEGER - LOWEST_INTEGER + 1;
+
+	private SharedPayloads() {
+	}
+
+	/**
+	 * Returns the index of the given payload value, or {@literal -1}, if the
+	 * given payload value is not a shared payload value.
+	 */
+	static int indexOf(Object value) {
+		if (null == value) {
+			return 0;
+		} else if (Boolean.FALSE == value) {
+			return 1;
+		} else if (Boolean.TRUE == value) {
+			return 2;
+		} else if (value instanceof Integer) {
+			int integer = ((Integer) value).intValue();
+			if (integer >= LOWEST_INTEGER && integer <= HIGHEST_INTEGER && Integer.valueOf(integer) == value) {
+				return FIRST_INTEGER_INDEX + integer - LOWEST_INTEGER;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the shared payload value with the given index.
+	 */
+	static Object valueAt(int index) {
+		switch (index) {
+		case 0:
+			return null;
+		case 1:
+			return Boolean.FALSE;
+		case 2:
+			return Boolean.TRUE;
+		default:
+			return Integer.valueOf(LOWEST_INTEGER + index - FIRST_INTEGER_INDEX);
+		}
+	}
+
+}
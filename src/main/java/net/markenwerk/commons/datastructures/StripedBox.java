@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A {@link StripedBox} is a thread-safe mutable container class that
+ * accumulates values with a {@link Combiner}. Under contention, updates are
+ * spread over a number of cache line padded cells, in the style of
+ * {@code java.util.concurrent.atomic.LongAdder}, and the cells are only
+ * combined when the {@link StripedBox#getValue() value} is requested. This
+ * makes a {@link StripedBox} suitable for values that are written much more
+ * often than read, such as statistics counters.
+ * 
+ * <p>
+ * The given {@link Combiner} must be associative and commutative, because the
+ * order in which values are combined is unspecified, and free of side effects,
+ * because it may be called more than once per update. The given identity value
+ * must be neutral with respect to the given {@link Combiner}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class StripedBox<Payload> {
+
+	private static final int NUMBER_OF_CPUS = Runtime.getRuntime().availableProcessors();
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<StripedBox, Object> BASE = AtomicReferenceFieldUpdater
+			.newUpdater(StripedBox.class, Object.class, "base");
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicIntegerFieldUpdater<StripedBox> BUSY = AtomicIntegerFieldUpdater.newUpdater(
+			StripedBox.class, "busy");
+
+	private static final AtomicReferenceFieldUpdater<CellValue, Object> CELL_VALUE = AtomicReferenceFieldUpdater
+			.newUpdater(CellValue.class, Object.class, "value");
+
+	private static final AtomicInteger PROBE_SEEDS = new AtomicInteger();
+
+	private static final ThreadLocal<int[]> PROBES = new ThreadLocal<int[]>() {
+
+		@Override
+		protected int[] initialValue() {
+			int probe = PROBE_SEEDS.addAndGet(0x9E3779B9);
+			return new int[] { 0 == probe ? 1 : probe };
+		}
+
+	};
+
+	private final Payload identity;
+
+	private final Combiner<Payload> combiner;
+
+	private volatile Payload base;
+
+	private volatile Cell[] cells;
+
+	private volatile int busy;
+
+	/**
+	 * Creates a new {@link StripedBox} with the given identity value as the
+	 * current value.
+	 * 
+	 * @param identity
+	 *            The identity value of the given {@link Combiner}.
+	 * @param combiner
+	 *            The {@link Combiner} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Combiner} is {@literal null}.
+	 */
+	public StripedBox(Payload identity, Combiner<Payload> combiner) throws IllegalArgumentException {
+		if (null == combiner) {
+			throw new IllegalArgumentException("The given combiner is null");
+		}
+		this.identity = identity;
+		this.combiner = combiner;
+		this.base = identity;
+	}
+
+	/**
+	 * Returns the current value of this {@link StripedBox}, which is the
+	 * combination of all values that have been
+	 * {@link StripedBox#accumulate(Object) accumulated} since the last time the
+	 * {@link StripedBox#setValue(Object) value has been set}. Concurrent
+	 * updates may or may not be reflected in the returned value.
+	 * 
+	 * @return The value.
+	 */
+	@SuppressWarnings("unchecked")
+	public Payload getValue() {
+		Payload value = base;
+		Cell[] cells = this.cells;
+		if (null != cells) {
+			for (Cell cell : cells) {
+				if (null != cell) {
+					value = combiner.combine(value, (Payload) cell.value);
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Sets the current value of this {@link StripedBox}. This is not atomic
+	 * with respect to concurrent {@link StripedBox#accumulate(Object)
+	 * accumulations}, which may or may not be reflected in subsequently
+	 * returned values.
+	 * 
+	 * @param value
+	 *            The value to be used.
+	 */
+	public void setValue(Payload value) {
+		Cell[] cells = this.cells;
+		if (null != cells) {
+			for (Cell cell : cells) {
+				if (null != cell) {
+					cell.value = identity;
+				}
+			}
+		}
+		base = value;
+	}
+
+	/**
+	 * Combines the current value of this {@link StripedBox} with the given
+	 * value.
+	 * 
+	 * @param value
+	 *            The value to be combined with the current value.
+	 */
+	@SuppressWarnings("unchecked")
+	public void accumulate(Payload value) {
+		Cell[] cells = this.cells;
+		if (null == cells) {
+			Payload current = base;
+			if (BASE.compareAndSet(this, current, combiner.combine(current, value))) {
+				return;
+			}
+		}
+		int[] probe = PROBES.get();
+		boolean uncontended = true;
+		if (null != cells) {
+			Cell cell = cells[probe[0] & (cells.length - 1)];
+			if (null != cell) {
+				Object current = cell.value;
+				if (CELL_VALUE.compareAndSet(cell, current, combiner.combine((Payload) current, value))) {
+					return;
+				}
+				uncontended = false;
+			}
+		}
+		accumulate(value, probe, uncontended);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void accumulate(Payload value, int[] probe, boolean uncontended) {
+		int hash = probe[0];
+		boolean collided = false;
+		while (true) {
+			Cell[] cells = this.cells;
+			int length;
+			if (null != cells && (length = cells.length) > 0) {
+				Cell cell = cells[hash & (length - 1)];
+				if (null == cell) {
+					if (0 == busy && BUSY.compareAndSet(this, 0, 1)) {
+						boolean created = false;
+						try {
+							Cell[] current = this.cells;
+							int index = hash & (current.length - 1);
+							if (null == current[index]) {
+								current[index] = new Cell(value);
+								created = true;
+							}
+						} finally {
+							busy = 0;
+						}
+						if (created) {
+							break;
+						}
+						continue;
+					}
+					collided = false;
+				} else if (!uncontended) {
+					uncontended = true;
+				} else {
+					Object current = cell.value;
+					if (CELL_VALUE.compareAndSet(cell, current, combiner.combine((Payload) current, value))) {
+						break;
+					} else if (length >= NUMBER_OF_CPUS || this.cells != cells) {
+						collided = false;
+					} else if (!collided) {
+						collided = true;
+					} else if (0 == busy && BUSY.compareAndSet(this, 0, 1)) {
+						try {
+							if (this.cells == cells) {
+								this.cells = Arrays.copyOf(cells, length << 1);
+							}
+						} finally {
+							busy = 0;
+						}
+						collided = false;
+						continue;
+					}
+				}
+				hash ^= hash << 13;
+				hash ^= hash >>> 17;
+				hash ^= hash << 5;
+			} else if (0 == busy && this.cells == cells && BUSY.compareAndSet(this, 0, 1)) {
+				boolean initialized = false;
+				try {
+					if (this.cells == cells) {
+						Cell[] initial = new Cell[2];
+						initial[hash & 1] = new Cell(value);
+						this.cells = initial;
+						initialized = true;
+					}
+				} finally {
+					busy = 0;
+				}
+				if (initialized) {
+					break;
+				}
+			} else {
+				Payload current = base;
+				if (BASE.compareAndSet(this, current, combiner.combine(current, value))) {
+					break;
+				}
+			}
+		}
+		probe[0] = hash;
+	}
+
+	@Override
+	public String toString() {
+		return "StripedBox [value=" + getValue() + "]";
+	}
+
+	@SuppressWarnings("unused")
+	private static class CellPadding {
+
+		long p0, p1, p2, p3, p4, p5, p6;
+
+	}
+
+	private static class CellValue extends CellPadding {
+
+		volatile Object value;
+
+	}
+
+	@SuppressWarnings("unused")
+	private static final class Cell extends CellValue {
+
+		long q0, q1, q2, q3, q4, q5, q6;
+
+		Cell(Object value) {
+			this.value = value;
+		}
+
+	}
+
+}
@@ -25,6 +25,12 @@ package net.markenwerk.commons.datastructures;
  * A {@link Triple} is a simple immutable container class that holds three
  * values.
  * 
+ * <p>
+ * A {@link Triple} caches its hash code, if all of its values are known to be
+ * immutable (e.g. strings, boxed primitives, enum constants or other container
+ * classes that only hold such values). Otherwise, the hash code is calculated
+ * on every call, because a value might be mutated.
+ * 
  * @param <First>
  *            The type of the first value.
  * @param <Second>
@@ -34,7 +40,7 @@ package net.markenwerk.commons.datastructures;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class Triple<First, Second, Third> {
+public final class Triple<First, Second, Third> implements TripleView<First, Second, Third> {
 
 	private final First first;
 
@@ -42,6 +48,8 @@ public final class Triple<First, Second, Third> {
 
 	private final Third third;
 
+	private int hash;
+
 	/**
 	 * Creates a new {@link Triple}.
 	 * 
@@ -121,16 +129,36 @@ public final class Triple<First, Second, Third> {
 		return new Triple<First, Second, Third>(first, second, third);
 	}
 
+	/**
+	 * Returns this {@link Triple}, because it is already immutable.
+	 * 
+	 * @return This {@link Triple}.
+	 */
+	@Override
+	public Triple<First, Second, Third> freeze() {
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((first == null) ? 0 : first.hashCode());
-		result = prime * result + ((second == null) ? 0 : second.hashCode());
-		result = prime * result + ((third == null) ? 0 : third.hashCode());
+		int result = hash;
+		if (0 == result) {
+			final int prime = 31;
+			result = 1;
+			result = prime * result + ((first == null) ? 0 : first.hashCode());
+			result = prime * result + ((second == null) ? 0 : second.hashCode());
+			result = prime * result + ((third == null) ? 0 : third.hashCode());
+			if (hasImmutableValues()) {
+				hash = result;
+			}
+		}
 		return result;
 	}
 
+	boolean hasImmutableValues() {
+		return 0 != hash || (Immutables.isImmutable(first) && Immutables.isImmutable(second) && Immutables.isImmutable(third));
+	}
+
 	@Override
 	public boolean equals(Object object) {
 		if (this == object) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * A {@link TripleView} is a read-only view on three values. It is implemented
+ * by the immutable {@link Triple} and by reusable, mutable views like
+ * {@link MutableTriple}, which allow handing three values to code that only
+ * reads them without creating a new {@link Triple} for every element of a
+ * larger data set.
+ * 
+ * @param <First>
+ *            The type of the first value.
+ * @param <Second>
+ *            The type of the second value.
+ * @param <Third>
+ *            The type of the third value.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public interface TripleView<First, Second, Third> {
+
+	/**
+	 * Returns the first value of this {@link TripleView}.
+	 * 
+	 * @return The first value.
+	 */
+	public First getFirst();
+
+	/**
+	 * Returns the second value of this {@link TripleView}.
+	 * 
+	 * @return The second value.
+	 */
+	public Second getSecond();
+
+	/**
+	 * Returns the third value of this {@link TripleView}.
+	 * 
+	 * @return The third value.
+	 */
+	public Third getThird();
+
+	/**
+	 * Returns an immutable {@link Triple} with the current values of this
+	 * {@link TripleView}. A {@link Triple} returns itself, a mutable view
+	 * creates a new {@link Triple}.
+	 * 
+	 * @return The {@link Triple}.
+	 */
+	public Triple<First, Second, Third> freeze();
+
+}
@@ -24,6 +24,12 @@ package net.markenwerk.commons.datastructures;
 /**
  * A {@link Tuple} is a simple immutable container class that holds two values.
  * 
+ * <p>
+ * A {@link Tuple} caches its hash code, if all of its values are known to be
+ * immutable (e.g. strings, boxed primitives, enum constants or other container
+ * classes that only hold such values). Otherwise, the hash code is calculated
+ * on every call, because a value might be mutated.
+ * 
  * @param <First>
  *            The type of the first value.
  * @param <Second>
@@ -31,12 +37,14 @@ package net.markenwerk.commons.datastructures;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class Tuple<First, Second> {
+public final class Tuple<First, Second> implements TupleView<First, Second> {
 
 	private final First first;
 
 	private final Second second;
 
+	private int hash;
+
 	/**
 	 * Creates a new {@link Tuple}.
 	 * 
@@ -92,15 +100,35 @@ public final class Tuple<First, Second> {
 		return new Tuple<First, Second>(first, second);
 	}
 
+	/**
+	 * Returns this {@link Tuple}, because it is already immutable.
+	 * 
+	 * @return This {@link Tuple}.
+	 */
+	@Override
+	public Tuple<First, Second> freeze() {
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((first == null) ? 0 : first.hashCode());
-		result = prime * result + ((second == null) ? 0 : second.hashCode());
+		int result = hash;
+		if (0 == result) {
+			final int prime = 31;
+			result = 1;
+			result = prime * result + ((first == null) ? 0 : first.hashCode());
+			result = prime * result + ((second == null) ? 0 : second.hashCode());
+			if (hasImmutableValues()) {
+				hash = result;
+			}
+		}
 		return result;
 	}
 
+	boolean hasImmutableValues() {
+		return 0 != hash || (Immutables.isImmutable(first) && Immutables.isImmutable(second));
+	}
+
 	@Override
 	public boolean equals(Object object) {
 		if (this == object) {
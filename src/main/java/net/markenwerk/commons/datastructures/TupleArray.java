@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Comparator;
+
+/**
+ * A {@link TupleArray} is a growable collection of {@link Tuple Tuples} that
+ * stores each component in its own backing array, instead of storing one
+ * {@link Tuple} per element. Scans over a single component are therefore
+ * linear passes over one array and no {@link Tuple} is created, unless
+ * requested.
+ * 
+ * @param <First>
+ *            The type of the first value.
+ * @param <Second>
+ *            The type of the second value.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class TupleArray<First, Second> {
+
+	final ColumnStorage storage;
+
+	/**
+	 * Creates a new, empty {@link TupleArray}.
+	 */
+	public TupleArray() {
+		storage = new ColumnStorage(2);
+	}
+
+	/**
+	 * Creates a new, empty {@link TupleArray}.
+	 * 
+	 * @param initialCapacity
+	 *            The initial capacity to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given initial capacity is negative.
+	 */
+	public TupleArray(int initialCapacity) throws IllegalArgumentException {
+		storage = new ColumnStorage(2, initialCapacity);
+	}
+
+	/**
+	 * Returns the number of elements in this {@link TupleArray}.
+	 * 
+	 * @return The number of elements.
+	 */
+	public int size() {
+		return storage.size;
+	}
+
+	/**
+	 * Returns whether this {@link TupleArray} has no elements.
+	 * 
+	 * @return Whether this {@link TupleArray} has no elements.
+	 */
+	public boolean isEmpty() {
+		return 0 == storage.size;
+	}
+
+	/**
+	 * Removes all elements from this {@link TupleArray}.
+	 */
+	public void clear() {
+		storage.clear();
+	}
+
+	/**
+	 * Appends an element with the given values to this {@link TupleArray}.
+	 * 
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 */
+	public void add(First first, Second second) {
+		int index = storage.append();
+		Object[][] columns = storage.columns;
+		columns[0][index] = first;
+		columns[1][index] = second;
+	}
+
+	/**
+	 * Appends an element with the values of the given {@link Tuple} to
+	 * this {@link TupleArray}.
+	 * 
+	 * @param tuple
+	 *            The {@link Tuple} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Tuple} is {@literal null}.
+	 */
+	public void add(Tuple<? extends First, ? extends Second> tuple) throws IllegalArgumentException {
+		if (null == tuple) {
+			throw new IllegalArgumentException("The given tuple is null");
+		}
+		add(tuple.getFirst(), tuple.getSecond());
+	}
+
+	/**
+	 * Replaces the values of the element at the given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @param first
+	 *            The first value to be used.
+	 * @param second
+	 *            The second value to be used.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public void set(int index, First first, Second second) throws IndexOutOfBoundsException {
+		storage.checkIndex(index);
+		Object[][] columns = storage.columns;
+		columns[0][index] = first;
+		columns[1][index] = second;
+	}
+
+	/**
+	 * Creates a new {@link Tuple} with the values of the element at the
+	 * given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return The created {@link Tuple}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public Tuple<First, Second> get(int index) throws IndexOutOfBoundsException {
+		storage.checkIndex(index);
+		return new Tuple<First, Second>(first(index), second(index));
+	}
+
+	/**
+	 * Returns the first value of the element at the given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return The first value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public First getFirst(int index) throws IndexOutOfBoundsException {
+		storage.checkIndex(index);
+		return first(index);
+	}
+
+	@SuppressWarnings("unchecked")
+	First first(int index) {
+		return (First) storage.columns[0][index];
+	}
+
+	/**
+	 * Sorts the elements of this {@link TupleArray} by their first value. The
+	 * sort is performed in place and is not stable.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null}.
+	 */
+	public void sortByFirst(Comparator<? super First> comparator) throws IllegalArgumentException {
+		storage.sort(0, comparator);
+	}
+
+	/**
+	 * Returns the second value of the element at the given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @return The second value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public Second getSecond(int index) throws IndexOutOfBoundsException {
+		storage.checkIndex(index);
+		return second(index);
+	}
+
+	@SuppressWarnings("unchecked")
+	Second second(int index) {
+		return (Second) storage.columns[1][index];
+	}
+
+	/**
+	 * Sorts the elements of this {@link TupleArray} by their second value. The
+	 * sort is performed in place and is not stable.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null}.
+	 */
+	public void sortBySecond(Comparator<? super Second> comparator) throws IllegalArgumentException {
+		storage.sort(1, comparator);
+	}
+
+	/**
+	 * Creates a new {@link TupleArrayCursor} that iterates over the elements of
+	 * this {@link TupleArray}. The returned {@link TupleArrayCursor} is a reusable
+	 * view and doesn't create a {@link Tuple} per element.
+	 * 
+	 * @return The created {@link TupleArrayCursor}.
+	 */
+	public TupleArrayCursor<First, Second> cursor() {
+		return new TupleArrayCursor<First, Second>(this);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("TupleArray [");
+		for (int i = 0; i < storage.size; i++) {
+			if (0 != i) {
+				builder.append(", ");
+			}
+			builder.append("(").append(storage.columns[0][i]).append(", ").append(storage.columns[1][i]).append(")");
+		}
+		return builder.append("]").toString();
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+/**
+ * A {@link TupleArrayCursor} is a reusable, mutable view on the elements of a
+ * {@link TupleArray}. It is positioned on one element at a time and exposes the
+ * values of that element without creating a {@link Tuple}.
+ * 
+ * @param <First>
+ *            The type of the first value.
+ * @param <Second>
+ *            The type of the second value.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class TupleArrayCursor<First, Second> implements TupleView<First, Second> {
+
+	private final TupleArray<First, Second> array;
+
+	private int index = -1;
+
+	TupleArrayCursor(TupleArray<First, Second> array) {
+		this.array = array;
+	}
+
+	/**
+	 * Moves this {@link TupleArrayCursor} to the next element.
+	 * 
+	 * @return Whether this {@link TupleArrayCursor} is positioned on an element.
+	 */
+	public boolean next() {
+		if (index < array.storage.size) {
+			index++;
+		}
+		return index < array.storage.size;
+	}
+
+	/**
+	 * Moves this {@link TupleArrayCursor} to the element with the given index.
+	 * 
+	 * @param index
+	 *            The index of the element.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is out of bounds.
+	 */
+	public void moveTo(int index) throws IndexOutOfBoundsException {
+		array.storage.checkIndex(index);
+		this.index = index;
+	}
+
+	/**
+	 * Moves this {@link TupleArrayCursor} in front of the first element.
+	 */
+	public void reset() {
+		index = -1;
+	}
+
+	/**
+	 * Returns the index of the current element.
+	 * 
+	 * @return The index of the current element.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns the first value of the current element.
+	 * 
+	 * @return The first value.
+	 * @throws IllegalStateException
+	 *             If this {@link TupleArrayCursor} is not positioned on an element.
+	 */
+	@Override
+	public First getFirst() throws IllegalStateException {
+		checkPosition();
+		return array.first(index);
+	}
+
+	/**
+	 * Returns the second value of the current element.
+	 * 
+	 * @return The second value.
+	 * @throws IllegalStateException
+	 *             If this {@link TupleArrayCursor} is not positioned on an element.
+	 */
+	@Override
+	public Second getSecond() throws IllegalStateException {
+		checkPosition();
+		return array.second(index);
+	}
+
+	/**
+	 * Creates a new {@link Tuple} with the values of the current element.
+	 * 
+	 * @return The created {@link Tuple}.
+	 * @throws IllegalStateException
+	 *             If this {@link TupleArrayCursor} is not positioned on an element.
+	 */
+	@Override
+	public Tuple<First, Second> freeze() throws IllegalStateException {
+		checkPosition();
+		return new Tuple<First, Second>(array.first(index), array.second(index));
+	}
+
+	private void checkPosition() throws IllegalStateException {
+		if (index < 0 || index >= array.storage.size) {
+			throw new IllegalStateException("This cursor is not positioned on an element");
+		}
+	}
+
+}
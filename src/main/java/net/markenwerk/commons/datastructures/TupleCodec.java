@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link TupleCodec} is a {@link Codec} for {@link Tuple Tuples} that writes
+ * both values with the given component {@link Codec Codecs}.
+ * 
+ * @param <First>
+ *            The type of the first value.
+ * @param <Second>
+ *            The type of the second value.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class TupleCodec<First, Second> implements Codec<Tuple<First, Second>> {
+
+	private final Codec<First> firstCodec;
+
+	private final Codec<Second> secondCodec;
+
+	/**
+	 * Creates a new {@link TupleCodec}.
+	 * 
+	 * @param firstCodec
+	 *            The {@link Codec} to be used for the first values.
+	 * @param secondCodec
+	 *            The {@link Codec} to be used for the second values.
+	 * @throws IllegalArgumentException
+	 *             If one of the given {@link Codec Codecs} is {@literal null}.
+	 */
+	public TupleCodec(Codec<First> firstCodec, Codec<Second> secondCodec) throws IllegalArgumentException {
+		if (null == firstCodec) {
+			throw new IllegalArgumentException("The given first codec is null");
+		}
+		if (null == secondCodec) {
+			throw new IllegalArgumentException("The given second codec is null");
+		}
+		this.firstCodec = firstCodec;
+		this.secondCodec = secondCodec;
+	}
+
+	@Override
+	public void encode(Tuple<First, Second> value, DataOutput output) throws IOException {
+		if (null == value) {
+			throw new IllegalArgumentException("The given value is null");
+		}
+		firstCodec.encode(value.getFirst(), output);
+		secondCodec.encode(value.getSecond(), output);
+	}
+
+	@Override
+	public Tuple<First, Second> decode(DataInput input) throws IOException {
+		First first = firstCodec.decode(input);
+		Second second = secondCodec.decode(input);
+		return new Tuple<First, Second>(first, second);
+	}
+
+}
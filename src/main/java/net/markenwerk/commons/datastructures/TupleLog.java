@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link TupleLog} is an append-only log of values, e.g. {@link Tuple
+ * Tuples} or {@link Entry Entries}, that are written with a {@link Codec} into
+ * memory-mapped segment files in a directory.
+ * 
+ * <p>
+ * Every record consists of a marker byte, the length of the encoded value, a
+ * CRC32 checksum of the encoded value and the encoded value itself. A new
+ * segment file is started, if a record doesn't fit into the current segment
+ * file. When a {@link TupleLog} is opened, the records of the last segment file
+ * are verified and the log is truncated after the last complete record, in
+ * order to recover from a crash that happened while a record was written.
+ * 
+ * <p>
+ * A {@link TupleLog} is not thread-safe. Written records are visible to
+ * {@link TupleLogCursor TupleLogCursors} immediately, but are only guaranteed
+ * to be persisted after {@link TupleLog#flush()} has been called or the segment
+ * file has been completed. The mapped segment files are unmapped by the garbage
+ * collector, not by {@link TupleLog#close()}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class TupleLog<Payload> implements Closeable {
+
+	/**
+	 * The default size of a segment file.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	static final int HEADER_SIZE = 9;
+
+	static final byte RECORD = 1;
+
+	private static final String SUFFIX = ".log";
+
+	private static final int CHUNK_SIZE = 4096;
+
+	private static final byte[] ZEROS = new byte[CHUNK_SIZE];
+
+	private final File directory;
+
+	private final Codec<Payload> codec;
+
+	private final int segmentSize;
+
+	private final ByteBufferDataOutput output = new ByteBufferDataOutput();
+
+	private final CRC32 checksum = new CRC32();
+
+	private final byte[] chunk = new byte[CHUNK_SIZE];
+
+	private final long firstSegment;
+
+	private long lastSegment;
+
+	private MappedByteBuffer segment;
+
+	private int position;
+
+	/**
+	 * Creates a new {@link TupleLog} with segment files of
+	 * {@link TupleLog#DEFAULT_SEGMENT_SIZE the default size}.
+	 * 
+	 * @param directory
+	 *            The directory that contains the segment files.
+	 * @param codec
+	 *            The {@link Codec} to be used for the values.
+	 * @throws IllegalArgumentException
+	 *             If the given directory or the given {@link Codec} is
+	 *             {@literal null}.
+	 * @throws IOException
+	 *             If opening or recovering the segment files failed.
+	 */
+	public TupleLog(File directory, Codec<Payload> codec) throws IllegalArgumentException, IOException {
+		this(directory, codec, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link TupleLog}.
+	 * 
+	 * @param directory
+	 *            The directory that contains the segment files.
+	 * @param codec
+	 *            The {@link Codec} to be used for the values.
+	 * @param segmentSize
+	 *            The size of newly created segment files.
+	 * @throws IllegalArgumentException
+	 *             If the given directory or the given {@link Codec} is
+	 *             {@literal null} or if the given segment size is too small
+	 *             to hold a single record.
+	 * @throws IOException
+	 *             If opening or recovering the segment files failed.
+	 */
+	public TupleLog(File directory, Codec<Payload> codec, int segmentSize) throws IllegalArgumentException,
+			IOException {
+		if (null == directory) {
+			throw new IllegalArgumentException("The given directory is null");
+		}
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		if (segmentSize <= HEADER_SIZE) {
+			throw new IllegalArgumentException("The given segment size is too small");
+		}
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Failed to create directory " + directory);
+		}
+		this.directory = directory;
+		this.codec = codec;
+		this.segmentSize = segmentSize;
+		long[] segments = listSegments(directory);
+		if (0 == segments.length) {
+			firstSegment = 0;
+			lastSegment = 0;
+			segment = map(lastSegment);
+		} else {
+			firstSegment = segments[0];
+			lastSegment = segments[segments.length - 1];
+			segment = map(lastSegment);
+			position = recover();
+		}
+	}
+
+	/**
+	 * Appends the given value to this {@link TupleLog}.
+	 * 
+	 * @param value
+	 *            The value to be appended.
+	 * @throws IllegalArgumentException
+	 *             If the encoded value doesn't fit into a segment file.
+	 * @throws IllegalStateException
+	 *             If this {@link TupleLog} has been closed.
+	 * @throws IOException
+	 *             If encoding the value or creating a new segment file failed.
+	 */
+	public void append(Payload value) throws IllegalArgumentException, IllegalStateException, IOException {
+		checkOpen();
+		output.clear();
+		codec.encode(value, output);
+		ByteBuffer bytes = output.getBuffer();
+		int length = bytes.position();
+		if (length > segmentSize - HEADER_SIZE) {
+			throw new IllegalArgumentException("The given value is too large for a segment");
+		}
+		if (length > segment.capacity() - position - HEADER_SIZE) {
+			roll();
+		}
+		bytes.flip();
+		segment.putInt(position + 1, length);
+		segment.putInt(position + 5, checksum(bytes));
+		ByteBuffer target = segment.duplicate();
+		target.position(position + HEADER_SIZE);
+		target.put(bytes);
+		segment.put(position, RECORD);
+		position += HEADER_SIZE + length;
+	}
+
+	/**
+	 * Forces all records that have been written into the current segment file
+	 * to be persisted.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link TupleLog} has been closed.
+	 */
+	public void flush() throws IllegalStateException {
+		checkOpen();
+		segment.force();
+	}
+
+	/**
+	 * Returns a new {@link TupleLogCursor} that iterates over all records of
+	 * this {@link TupleLog}, starting with the first record.
+	 * 
+	 * @return The new {@link TupleLogCursor}.
+	 * @throws IllegalStateException
+	 *             If this {@link TupleLog} has been closed.
+	 */
+	public TupleLogCursor<Payload> cursor() throws IllegalStateException {
+		checkOpen();
+		return new TupleLogCursor<Payload>(this);
+	}
+
+	/**
+	 * Returns the number of segment files of this {@link TupleLog}.
+	 * 
+	 * @return The number of segment files.
+	 */
+	public int getSegmentCount() {
+		return (int) (lastSegment - firstSegment + 1);
+	}
+
+	/**
+	 * Forces all records that have been written into the current segment file
+	 * to be persisted and closes this {@link TupleLog}. Calling this method
+	 * more than once has no effect.
+	 */
+	@Override
+	public void close() {
+		if (null != segment) {
+			segment.force();
+			segment = null;
+		}
+	}
+
+	Codec<Payload> getCodec() {
+		return codec;
+	}
+
+	long getFirstSegment() {
+		return firstSegment;
+	}
+
+	long getLastSegment() {
+		return lastSegment;
+	}
+
+	ByteBuffer mapReadOnly(long index) throws IOException {
+		File file = getFile(index);
+		if (!file.exists()) {
+			return null;
+		}
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			return randomAccessFile.getChannel().map(MapMode.READ_ONLY, 0, checkSize(randomAccessFile.length()));
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+		ByteBuffer slice = buffer.duplicate();
+		slice.limit(offset + length);
+		slice.position(offset);
+		return slice.slice();
+	}
+
+	private void checkOpen() throws IllegalStateException {
+		if (null == segment) {
+			throw new IllegalStateException("This log has been closed");
+		}
+	}
+
+	private MappedByteBuffer map(long index) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(getFile(index), "rw");
+		try {
+			long size = checkSize(Math.max(randomAccessFile.length(), segmentSize));
+			return randomAccessFile.getChannel().map(MapMode.READ_WRITE, 0, size);
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	private void roll() throws IOException {
+		segment.force();
+		MappedByteBuffer next = map(lastSegment + 1);
+		segment = next;
+		lastSegment++;
+		position = 0;
+	}
+
+	private int recover() {
+		int limit = segment.capacity();
+		int position = 0;
+		while (position + HEADER_SIZE <= limit && RECORD == segment.get(position)) {
+			int length = segment.getInt(position + 1);
+			if (length < 0 || length > limit - position - HEADER_SIZE) {
+				break;
+			}
+			if (segment.getInt(position + 5) != checksum(slice(segment, position + HEADER_SIZE, length))) {
+				break;
+			}
+			position += HEADER_SIZE + length;
+		}
+		ByteBuffer tail = segment.duplicate();
+		tail.position(position);
+		while (tail.hasRemaining()) {
+			int length = Math.min(CHUNK_SIZE, tail.remaining());
+			tail.mark();
+			tail.get(chunk, 0, length);
+			if (!Arrays.equals(chunk, ZEROS)) {
+				tail.reset();
+				tail.put(ZEROS, 0, length);
+			}
+		}
+		return position;
+	}
+
+	private int checksum(ByteBuffer bytes) {
+		checksum.reset();
+		if (bytes.hasArray()) {
+			checksum.update(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+		} else {
+			ByteBuffer source = bytes.duplicate();
+			while (source.hasRemaining()) {
+				int length = Math.min(CHUNK_SIZE, source.remaining());
+				source.get(chunk, 0, length);
+				checksum.update(chunk, 0, length);
+			}
+		}
+		return (int) checksum.getValue();
+	}
+
+	private File getFile(long index) {
+		return new File(directory, String.format("%020d%s", index, SUFFIX));
+	}
+
+	private static long checkSize(long size) throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Segment file is too large: " + size + " bytes");
+		}
+		return size;
+	}
+
+	private static long[] listSegments(File directory) throws IOException {
+		String[] names = directory.list();
+		if (null == names) {
+			throw new IOException("Failed to list directory " + directory);
+		}
+		long[] segments = new long[names.length];
+		int count = 0;
+		for (String name : names) {
+			if (name.endsWith(SUFFIX)) {
+				try {
+					segments[count++] = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+				} catch (NumberFormatException e) {
+					count--;
+				}
+			}
+		}
+		segments = Arrays.copyOf(segments, count);
+		Arrays.sort(segments);
+		return segments;
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link TupleLogCursor} iterates over the records of a {@link TupleLog}
+ * without decoding them. The encoded value of the current record is a
+ * read-only view of the memory-mapped segment file and is only decoded, if
+ * {@link TupleLogCursor#getValue()} is called.
+ * 
+ * <p>
+ * If {@link TupleLogCursor#next()} returned {@literal false}, it can be called
+ * again later, in order to iterate over records that have been appended to the
+ * {@link TupleLog} in the meantime.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class TupleLogCursor<Payload> {
+
+	private final TupleLog<Payload> log;
+
+	private long index;
+
+	private ByteBuffer segment;
+
+	private int position;
+
+	private ByteBuffer record;
+
+	TupleLogCursor(TupleLog<Payload> log) {
+		this.log = log;
+		this.index = log.getFirstSegment() - 1;
+	}
+
+	/**
+	 * Moves this {@link TupleLogCursor} to the next record.
+	 * 
+	 * @return Whether there is a next record.
+	 * @throws IOException
+	 *             If mapping a segment file failed.
+	 */
+	public boolean next() throws IOException {
+		while (true) {
+			if (null != segment && position + TupleLog.HEADER_SIZE <= segment.limit()
+					&& TupleLog.RECORD == segment.get(position)) {
+				int length = segment.getInt(position + 1);
+				if (length >= 0 && length <= segment.limit() - position - TupleLog.HEADER_SIZE) {
+					record = TupleLog.slice(segment, position + TupleLog.HEADER_SIZE, length);
+					position += TupleLog.HEADER_SIZE + length;
+					return true;
+				}
+			}
+			if (index >= log.getLastSegment()) {
+				record = null;
+				return false;
+			}
+			segment = log.mapReadOnly(++index);
+			position = 0;
+		}
+	}
+
+	/**
+	 * Returns the encoded value of the current record as a read-only
+	 * {@link ByteBuffer} that shares its content with the memory-mapped segment
+	 * file.
+	 * 
+	 * @return The encoded value.
+	 * @throws IllegalStateException
+	 *             If there is no current record.
+	 */
+	public ByteBuffer getRecord() throws IllegalStateException {
+		checkRecord();
+		return record.duplicate();
+	}
+
+	/**
+	 * Decodes and returns the value of the current record.
+	 * 
+	 * @return The value.
+	 * @throws IllegalStateException
+	 *             If there is no current record.
+	 * @throws IOException
+	 *             If decoding the value failed.
+	 */
+	public Payload getValue() throws IllegalStateException, IOException {
+		checkRecord();
+		return log.getCodec().decode(new ByteBufferDataInput(record));
+	}
+
+	private void checkRecord() throws IllegalStateException {
+		if (null == record) {
+			throw new IllegalStateException("There is no current record");
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link WeakInterner} is an {@link Interner} that only holds weak references
+ * to the canonical instances. A canonical instance is evicted, once it is no
+ * longer referenced elsewhere.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.4.0
+ */
+public final class WeakInterner<Payload> extends
+		AbstractInterner<Payload, Map<Payload, WeakReference<Payload>>> {
+
+	/**
+	 * Creates a new {@link WeakInterner}.
+	 */
+	public WeakInterner() {
+		this(DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Creates a new {@link WeakInterner}.
+	 * 
+	 * @param concurrencyLevel
+	 *            The minimum number of segments to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given concurrency level is not positive or too large.
+	 */
+	public WeakInterner(int concurrencyLevel) throws IllegalArgumentException {
+		super(WeakInterner.<Payload> createSegments(concurrencyLevel));
+	}
+
+	private static <Payload> List<Map<Payload, WeakReference<Payload>>> createSegments(int concurrencyLevel)
+			throws IllegalArgumentException {
+		int numberOfSegments = numberOfSegments(concurrencyLevel);
+		List<Map<Payload, WeakReference<Payload>>> segments = new ArrayList<Map<Payload, WeakReference<Payload>>>(
+				numberOfSegments);
+		for (int i = 0; i < numberOfSegments; i++) {
+			segments.add(new WeakHashMap<Payload, WeakReference<Payload>>());
+		}
+		return segments;
+	}
+
+	@Override
+	protected Payload doIntern(Map<Payload, WeakReference<Payload>> segment, Payload payload) {
+		WeakReference<Payload> reference = segment.get(payload);
+		Payload canonical = null == reference ? null : reference.get();
+		if (null == canonical) {
+			segment.put(payload, new WeakReference<Payload>(payload));
+		}
+		return canonical;
+	}
+
+}
@@ -25,6 +25,12 @@ package net.markenwerk.commons.datastructures;
  * A {@link Wrapper} is a simple immutable container class that holds a single
  * value.
  * 
+ * <p>
+ * A {@link Wrapper} caches its hash code, if its value is known to be immutable
+ * (e.g. a string, a boxed primitive, an enum constant or another container
+ * class that only holds such values). Otherwise, the hash code is calculated on
+ * every call, because the value might be mutated.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
@@ -34,6 +40,8 @@ public final class Wrapper<Payload> {
 
 	private final Payload value;
 
+	private int hash;
+
 	/**
 	 * Creates a new {@link Wrapper}.
 	 * 
@@ -55,7 +63,18 @@ public final class Wrapper<Payload> {
 
 	@Override
 	public int hashCode() {
-		return null == value ? 0 : value.hashCode();
+		int result = hash;
+		if (0 == result && null != value) {
+			result = value.hashCode();
+			if (hasImmutableValues()) {
+				hash = result;
+			}
+		}
+		return result;
+	}
+
+	boolean hasImmutableValues() {
+		return 0 != hash || Immutables.isImmutable(value);
 	}
 
 	@Override
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
+@SuppressWarnings("javadoc")
+public class AtomicBoxTests {
+
+	private static final Converter<Integer, Integer> INCREMENT = new Converter<Integer, Integer>() {
+
+		@Override
+		public Integer convert(Integer from) throws ConversionException {
+			return from + 1;
+		}
+
+	};
+
+	private static final Combiner<Integer> SUM = new Combiner<Integer>() {
+
+		@Override
+		public Integer combine(Integer first, Integer second) {
+			return first + second;
+		}
+
+	};
+
+	@Test
+	public void create_null() {
+
+		AtomicBox<Object> box = new AtomicBox<Object>();
+
+		Assert.assertNull(box.getValue());
+
+	}
+
+	@Test
+	public void create_nonNull() {
+
+		Object value = new Object();
+		AtomicBox<Object> box = new AtomicBox<Object>(value);
+
+		Assert.assertSame(value, box.getValue());
+
+	}
+
+	@Test
+	public void setValue() {
+
+		Object value = new Object();
+		AtomicBox<Object> box = new AtomicBox<Object>();
+
+		box.setValue(value);
+
+		Assert.assertSame(value, box.getValue());
+
+	}
+
+	@Test
+	public void lazySet() {
+
+		Object value = new Object();
+		AtomicBox<Object> box = new AtomicBox<Object>();
+
+		box.lazySet(value);
+
+		Assert.assertSame(value, box.getValue());
+
+	}
+
+	@Test
+	public void compareAndSet_expected() {
+
+		Object expected = new Object();
+		Object value = new Object();
+		AtomicBox<Object> box = new AtomicBox<Object>(expected);
+
+		Assert.assertTrue(box.compareAndSet(expected, value));
+		Assert.assertSame(value, box.getValue());
+
+	}
+
+	@Test
+	public void compareAndSet_unexpected() {
+
+		Object current = new Object();
+		AtomicBox<Object> box = new AtomicBox<Object>(current);
+
+		Assert.assertFalse(box.compareAndSet(new Object(), new Object()));
+		Assert.assertSame(current, box.getValue());
+
+	}
+
+	@Test
+	public void getAndSet() {
+
+		Object previous = new Object();
+		Object value = new Object();
+		AtomicBox<Object> box = new AtomicBox<Object>(previous);
+
+		Assert.assertSame(previous, box.getAndSet(value));
+		Assert.assertSame(value, box.getValue());
+
+	}
+
+	@Test
+	public void getAndUpdate() {
+
+		AtomicBox<Integer> box = new AtomicBox<Integer>(1);
+
+		Assert.assertEquals(Integer.valueOf(1), box.getAndUpdate(INCREMENT));
+		Assert.assertEquals(Integer.valueOf(2), box.getValue());
+
+	}
+
+	@Test
+	public void updateAndGet() {
+
+		AtomicBox<Integer> box = new AtomicBox<Integer>(1);
+
+		Assert.assertEquals(Integer.valueOf(2), box.updateAndGet(INCREMENT));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void updateAndGet_nullConverter() {
+
+		new AtomicBox<Integer>(1).updateAndGet(null);
+
+	}
+
+	@Test
+	public void getAndAccumulate() {
+
+		AtomicBox<Integer> box = new AtomicBox<Integer>(1);
+
+		Assert.assertEquals(Integer.valueOf(1), box.getAndAccumulate(2, SUM));
+		Assert.assertEquals(Integer.valueOf(3), box.getValue());
+
+	}
+
+	@Test
+	public void accumulateAndGet() {
+
+		AtomicBox<Integer> box = new AtomicBox<Integer>(1);
+
+		Assert.assertEquals(Integer.valueOf(3), box.accumulateAndGet(2, SUM));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void accumulateAndGet_nullCombiner() {
+
+		new AtomicBox<Integer>(1).accumulateAndGet(2, null);
+
+	}
+
+	@Test
+	public void updateAndGet_concurrent() throws InterruptedException {
+
+		final AtomicBox<Integer> box = new AtomicBox<Integer>(0);
+		final CountDownLatch latch = new CountDownLatch(1);
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						latch.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int j = 0; j < 10000; j++) {
+						box.updateAndGet(INCREMENT);
+					}
+				}
+
+			});
+			threads[i].start();
+		}
+		latch.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(Integer.valueOf(40000), box.getValue());
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class BoundedCacheTests {
+
+	@Test
+	public void leastFrequentlyUsed_evictsLeastFrequent() {
+
+		BoundedCache<String, String> cache = new BoundedCache<String, String>(2,
+				EvictionPolicy.LEAST_FREQUENTLY_USED, 0);
+		cache.put("a", "a", 0);
+		cache.put("b", "b", 0);
+		cache.get("a", 0);
+
+		cache.put("c", "c", 0);
+
+		Assert.assertNotNull(cache.get("a", 0));
+		Assert.assertNull(cache.get("b", 0));
+		Assert.assertNotNull(cache.get("c", 0));
+
+	}
+
+	@Test
+	public void leastFrequentlyUsed_evictsOldestOnTie() {
+
+		BoundedCache<String, String> cache = new BoundedCache<String, String>(2,
+				EvictionPolicy.LEAST_FREQUENTLY_USED, 0);
+		cache.put("a", "a", 0);
+		cache.put("b", "b", 0);
+		cache.get("b", 0);
+		cache.get("a", 0);
+
+		cache.put("c", "c", 0);
+
+		Assert.assertNull(cache.get("b", 0));
+		Assert.assertEquals(2, cache.size());
+
+	}
+
+	@Test
+	public void leastFrequentlyUsed_matchesReference() {
+
+		int maximumSize = 16;
+		BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(maximumSize,
+				EvictionPolicy.LEAST_FREQUENTLY_USED, 0);
+		Map<Integer, long[]> reference = new HashMap<Integer, long[]>();
+		Random random = new Random(42);
+		for (long time = 0; time < 100000; time++) {
+			Integer key = random.nextInt(64);
+			long[] state = reference.get(key);
+			if (random.nextBoolean()) {
+				Assert.assertEquals(null != state, null != cache.get(key, 0));
+				if (null != state) {
+					state[0]++;
+					state[1] = time;
+				}
+			} else {
+				if (null == state && reference.size() == maximumSize) {
+					Integer victim = null;
+					long[] minimum = null;
+					for (Map.Entry<Integer, long[]> entry : reference.entrySet()) {
+						long[] candidate = entry.getValue();
+						if (null == minimum || candidate[0] < minimum[0]
+								|| (candidate[0] == minimum[0] && candidate[1] < minimum[1])) {
+							victim = entry.getKey();
+							minimum = candidate;
+						}
+					}
+					reference.remove(victim);
+				}
+				reference.put(key, new long[] { 0, time });
+				cache.put(key, key, 0);
+			}
+			Assert.assertEquals(reference.size(), cache.size());
+		}
+
+	}
+
+	@Test
+	public void timeToLive_expires() {
+
+		BoundedCache<String, String> cache = new BoundedCache<String, String>(2,
+				EvictionPolicy.LEAST_FREQUENTLY_USED, 10);
+		cache.put("a", "a", 0);
+
+		Assert.assertNotNull(cache.get("a", 5));
+		Assert.assertNull(cache.get("a", 10));
+		Assert.assertEquals(0, cache.size());
+
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class CodecsTests {
+
+	@Test
+	public void varInt_roundTrip() throws IOException {
+
+		int[] values = { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+		for (int value : values) {
+			ByteBufferDataOutput output = new ByteBufferDataOutput();
+			Codecs.writeVarInt(value, output);
+			Codecs.writeSignedVarInt(value, output);
+			ByteBuffer buffer = output.getBuffer();
+			buffer.flip();
+			ByteBufferDataInput input = new ByteBufferDataInput(buffer);
+
+			Assert.assertEquals(value, Codecs.readVarInt(input));
+			Assert.assertEquals(value, Codecs.readSignedVarInt(input));
+			Assert.assertEquals(0, input.getRemaining());
+		}
+
+	}
+
+	@Test
+	public void varLong_roundTrip() throws IOException {
+
+		long[] values = { 0L, 1L, 127L, 128L, Long.MAX_VALUE, -1L, Long.MIN_VALUE };
+		for (long value : values) {
+			ByteBufferDataOutput output = new ByteBufferDataOutput();
+			Codecs.writeVarLong(value, output);
+			Codecs.writeSignedVarLong(value, output);
+			ByteBuffer buffer = output.getBuffer();
+			buffer.flip();
+			ByteBufferDataInput input = new ByteBufferDataInput(buffer);
+
+			Assert.assertEquals(value, Codecs.readVarLong(input));
+			Assert.assertEquals(value, Codecs.readSignedVarLong(input));
+			Assert.assertEquals(0, input.getRemaining());
+		}
+
+	}
+
+	@Test
+	public void signedVarInt_smallNegative() throws IOException {
+
+		ByteBuffer buffer = Codecs.encode(Codecs.INTEGER, -1);
+
+		Assert.assertEquals(1, buffer.remaining());
+
+	}
+
+	@Test
+	public void string_roundTrip() throws IOException {
+
+		String value = "föö € 😀";
+
+		Assert.assertEquals(value, Codecs.decode(Codecs.STRING, Codecs.encode(Codecs.STRING, value)));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void encode_nullValue() throws IOException {
+
+		Codecs.encode(Codecs.STRING, null);
+
+	}
+
+	@Test
+	public void nullable_roundTrip() throws IOException {
+
+		Codec<String> codec = Codecs.nullable(Codecs.STRING);
+
+		Assert.assertNull(Codecs.decode(codec, Codecs.encode(codec, null)));
+		Assert.assertEquals("foo", Codecs.decode(codec, Codecs.encode(codec, "foo")));
+
+	}
+
+	@Test
+	public void tuple_roundTrip() throws IOException {
+
+		Codec<Tuple<String, Long>> codec = new TupleCodec<String, Long>(Codecs.STRING, Codecs.LONG);
+		Tuple<String, Long> tuple = new Tuple<String, Long>("foo", 42L);
+
+		Assert.assertEquals(tuple, Codecs.decode(codec, Codecs.encode(codec, tuple)));
+
+	}
+
+	@Test
+	public void pair_roundTrip() throws IOException {
+
+		Codec<Pair<Integer>> codec = new PairCodec<Integer>(Codecs.INTEGER);
+		Pair<Integer> pair = new Pair<Integer>(-1, 1);
+
+		Assert.assertEquals(pair, Codecs.decode(codec, Codecs.encode(codec, pair)));
+
+	}
+
+	@Test
+	public void triple_roundTrip() throws IOException {
+
+		Codec<Triple<String, Integer, Double>> codec = new TripleCodec<String, Integer, Double>(Codecs.STRING,
+				Codecs.INTEGER, Codecs.DOUBLE);
+		Triple<String, Integer, Double> triple = new Triple<String, Integer, Double>("foo", 42, 0.5);
+
+		Assert.assertEquals(triple, Codecs.decode(codec, Codecs.encode(codec, triple)));
+
+	}
+
+	@Test
+	public void entry_roundTrip() throws IOException {
+
+		Codec<Entry<String, String>> codec = new EntryCodec<String, String>(Codecs.STRING,
+				Codecs.nullable(Codecs.STRING));
+		Entry<String, String> entry = new Entry<String, String>("foo", null);
+
+		Assert.assertEquals(entry, Codecs.decode(codec, Codecs.encode(codec, entry)));
+
+	}
+
+	@Test
+	public void optional_roundTrip() throws IOException {
+
+		Codec<Optional<String>> codec = new OptionalCodec<String>(Codecs.STRING);
+
+		Assert.assertEquals("foo", Codecs.decode(codec, Codecs.encode(codec, Optional.of("foo"))).getValue());
+		Assert.assertFalse(Codecs.decode(codec, Codecs.encode(codec, Optional.<String> empty())).hasValue());
+		Assert.assertEquals(1, Codecs.encode(codec, Optional.<String> empty()).remaining());
+
+	}
+
+	@Test
+	public void optionalInt_roundTrip() throws IOException {
+
+		Assert.assertEquals(-7, Codecs.decode(Codecs.OPTIONAL_INT, Codecs.encode(Codecs.OPTIONAL_INT,
+				OptionalInt.of(-7))).getValue());
+		Assert.assertFalse(Codecs.decode(Codecs.OPTIONAL_INT, Codecs.encode(Codecs.OPTIONAL_INT,
+				OptionalInt.empty())).hasValue());
+
+	}
+
+	@Test
+	public void either_roundTrip() throws IOException {
+
+		Codec<Either<String, Integer>> codec = new EitherCodec<String, Integer>(Codecs.STRING, Codecs.INTEGER);
+
+		Either<String, Integer> left = Codecs.decode(codec, Codecs.encode(codec, Left.<String, Integer> of("foo")));
+		Either<String, Integer> right = Codecs.decode(codec, Codecs.encode(codec, Right.<String, Integer> of(42)));
+
+		Assert.assertTrue(left.isLeft());
+		Assert.assertEquals("foo", left.getLeft());
+		Assert.assertTrue(right.isRight());
+		Assert.assertEquals(Integer.valueOf(42), right.getRight());
+
+	}
+
+	@Test(expected = IOException.class)
+	public void either_malformedTag() throws IOException {
+
+		Codec<Either<String, Integer>> codec = new EitherCodec<String, Integer>(Codecs.STRING, Codecs.INTEGER);
+
+		Codecs.decode(codec, ByteBuffer.wrap(new byte[] { 2, 0 }));
+
+	}
+
+	@Test(expected = IOException.class)
+	public void decode_truncated() throws IOException {
+
+		ByteBuffer buffer = Codecs.encode(Codecs.STRING, "foo");
+		buffer.limit(buffer.limit() - 1);
+
+		Codecs.decode(Codecs.STRING, buffer);
+
+	}
+
+	@Test(expected = EOFException.class)
+	public void decode_oversizedLength() throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 42 });
+
+		Codecs.decode(Codecs.STRING, buffer);
+
+	}
+
+	@Test(expected = EOFException.class)
+	public void decode_oversizedLengthFromStream() throws IOException {
+
+		byte[] bytes = new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 42 };
+
+		Codecs.BYTE_BUFFER.decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+	}
+
+	@Test
+	public void decode_largeFromStream() throws IOException {
+
+		String value = new String(new char[20000]).replace('\0', 'x');
+		ByteBuffer buffer = Codecs.encode(Codecs.STRING, value);
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+
+		Assert.assertEquals(value, Codecs.STRING.decode(new DataInputStream(new ByteArrayInputStream(bytes))));
+
+	}
+
+	@Test
+	public void byteBuffer_zeroCopy() throws IOException {
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		ByteBufferDataOutput output = new ByteBufferDataOutput(direct);
+		Codecs.BYTE_BUFFER.encode(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), output);
+		direct.limit(output.getPosition());
+
+		ByteBuffer slice = Codecs.decode(Codecs.BYTE_BUFFER, direct);
+		direct.put(1, (byte) 42);
+
+		Assert.assertTrue(slice.isDirect());
+		Assert.assertTrue(slice.isReadOnly());
+		Assert.assertEquals(3, slice.remaining());
+		Assert.assertEquals(42, slice.get(0));
+
+	}
+
+	@Test
+	public void fixedOutput_keepsPositionAndOrder() throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.position(4);
+		ByteBufferDataOutput output = new ByteBufferDataOutput(buffer);
+
+		output.writeInt(1);
+
+		Assert.assertEquals(4, buffer.position());
+		Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+		Assert.assertEquals(8, output.getPosition());
+		Assert.assertEquals(1, buffer.get(7));
+
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void fixedOutput_overflow() throws IOException {
+
+		ByteBufferDataOutput output = new ByteBufferDataOutput(ByteBuffer.allocate(4));
+
+		Codecs.STRING.encode("foobar", output);
+
+	}
+
+	@Test
+	public void growableOutput_grows() throws IOException {
+
+		ByteBufferDataOutput output = new ByteBufferDataOutput(1, true);
+		for (int i = 0; i < 1000; i++) {
+			output.writeLong(i);
+		}
+
+		Assert.assertEquals(8000, output.getPosition());
+		Assert.assertTrue(output.getBuffer().isDirect());
+
+	}
+
+}
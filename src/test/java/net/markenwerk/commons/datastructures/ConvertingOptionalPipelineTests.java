@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ConvertingOptionalPipelineTests {
+
+	private static final Converter<Integer, Integer> INCREMENT = new Converter<Integer, Integer>() {
+
+		@Override
+		public Integer convert(Integer from) throws ConversionException {
+			return from + 1;
+		}
+
+	};
+
+	private static final Converter<Object, String> TO_STRING = new Converter<Object, String>() {
+
+		@Override
+		public String convert(Object from) throws ConversionException {
+			return from.toString();
+		}
+
+	};
+
+	private static final Converter<Object, Object> TO_NULL = new Converter<Object, Object>() {
+
+		@Override
+		public Object convert(Object from) throws ConversionException {
+			return null;
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void of_nullConverter() {
+
+		ConvertingOptionalPipeline.of(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void then_nullConverter() {
+
+		ConvertingOptionalPipeline.of(INCREMENT).then(null);
+
+	}
+
+	@Test
+	public void then_immutable() {
+
+		ConvertingOptionalPipeline<Integer, Integer> pipeline = ConvertingOptionalPipeline.of(INCREMENT);
+
+		pipeline.then(INCREMENT);
+
+		Assert.assertEquals(1, pipeline.size());
+
+	}
+
+	@Test
+	public void select_value() {
+
+		ConvertingOptionalPipeline<Integer, String> pipeline = ConvertingOptionalPipeline.of(INCREMENT)
+				.then(INCREMENT).then(TO_STRING);
+
+		Optional<String> result = new Optional<Integer>(1).select(pipeline);
+
+		Assert.assertEquals("3", result.getValue());
+
+	}
+
+	@Test
+	public void select_noValue() {
+
+		ConvertingOptionalPipeline<Integer, String> pipeline = ConvertingOptionalPipeline.of(INCREMENT).then(
+				TO_STRING);
+
+		Optional<String> result = new Optional<Integer>().select(pipeline);
+
+		Assert.assertSame(Optional.empty(), result);
+
+	}
+
+	@Test
+	public void select_nullSkipsRemainingStages() {
+
+		final int[] calls = new int[1];
+		ConvertingOptionalPipeline<Integer, Object> pipeline = ConvertingOptionalPipeline.<Integer, Object> of(TO_NULL).then(
+				new Converter<Object, Object>() {
+
+					@Override
+					public Object convert(Object from) throws ConversionException {
+						calls[0]++;
+						return from;
+					}
+
+				});
+
+		Optional<Object> result = new Optional<Integer>(1).select(pipeline);
+
+		Assert.assertFalse(result.hasValue());
+		Assert.assertEquals(0, calls[0]);
+
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class EitherArrayTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new EitherArray<String, Integer>(-1);
+
+	}
+
+	@Test
+	public void addLeft() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+
+		array.addLeft("foo");
+
+		Assert.assertTrue(array.isLeft(0));
+		Assert.assertFalse(array.isRight(0));
+		Assert.assertEquals("foo", array.getLeft(0));
+
+	}
+
+	@Test
+	public void addRight() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+
+		array.addRight(42);
+
+		Assert.assertTrue(array.isRight(0));
+		Assert.assertFalse(array.isLeft(0));
+		Assert.assertEquals(Integer.valueOf(42), array.getRight(0));
+
+	}
+
+	@Test
+	public void add_either() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+
+		array.add(new Left<String, Integer>("foo"));
+		array.add(new Right<String, Integer>(42));
+
+		Assert.assertEquals(new Left<String, Integer>("foo"), array.get(0));
+		Assert.assertEquals(new Right<String, Integer>(42), array.get(1));
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getLeft_right() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+		array.addRight(42);
+
+		array.getLeft(0);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getRight_left() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+		array.addLeft("foo");
+
+		array.getRight(0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_outOfBounds() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+		array.addLeft("foo");
+
+		array.get(1);
+
+	}
+
+	@Test
+	public void setLeftAndRight() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+		array.addLeft("foo");
+		array.addRight(42);
+
+		array.setRight(0, 23);
+		array.setLeft(1, "bar");
+
+		Assert.assertEquals(Integer.valueOf(23), array.getRight(0));
+		Assert.assertEquals("bar", array.getLeft(1));
+
+	}
+
+	@Test
+	public void count() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>(0);
+		for (int i = 0; i < 1000; i++) {
+			if (0 == i % 3) {
+				array.addLeft(Integer.toString(i));
+			} else {
+				array.addRight(i);
+			}
+		}
+
+		Assert.assertEquals(1000, array.size());
+		Assert.assertEquals(334, array.countLefts());
+		Assert.assertEquals(666, array.countRights());
+
+	}
+
+	@Test
+	public void clear() {
+
+		EitherArray<String, Integer> array = new EitherArray<String, Integer>();
+		array.addLeft("foo");
+		array.addLeft("bar");
+
+		array.clear();
+		array.addRight(42);
+
+		Assert.assertEquals(1, array.size());
+		Assert.assertEquals(0, array.countLefts());
+
+	}
+
+}
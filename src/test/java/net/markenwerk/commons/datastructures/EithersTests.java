@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class EithersTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void partition_null() {
+
+		Eithers.partition(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void partition_nullEither() {
+
+		Eithers.partition(Arrays.<Either<String, Integer>> asList(new Left<String, Integer>("a"), null));
+
+	}
+
+	@Test
+	public void partition_collection() {
+
+		EitherPartition<String, Integer> partition = Eithers.partition(createEithers(10));
+
+		Assert.assertEquals(Arrays.asList("0", "3", "6", "9"), partition.getLefts());
+		Assert.assertEquals(Arrays.asList(1, 2, 4, 5, 7, 8), partition.getRights());
+
+	}
+
+	@Test
+	public void partition_iterable() {
+
+		final List<Either<String, Integer>> eithers = createEithers(100);
+
+		EitherPartition<String, Integer> partition = Eithers.partition(new Iterable<Either<String, Integer>>() {
+
+			@Override
+			public Iterator<Either<String, Integer>> iterator() {
+				return eithers.iterator();
+			}
+
+		});
+
+		Assert.assertEquals(34, partition.getLeftCount());
+		Assert.assertEquals(66, partition.getRightCount());
+		Assert.assertEquals("99", partition.getLefts().get(33));
+		Assert.assertEquals(Integer.valueOf(98), partition.getRights().get(65));
+
+	}
+
+	@Test
+	public void partition_parallel() throws InterruptedException {
+
+		List<Either<String, Integer>> eithers = createEithers(1000);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			EitherPartition<String, Integer> partition = Eithers.partition(eithers, executor, 7);
+			EitherPartition<String, Integer> expected = Eithers.partition(eithers);
+
+			Assert.assertEquals(expected.getLefts(), partition.getLefts());
+			Assert.assertEquals(expected.getRights(), partition.getRights());
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void partition_parallel_nonPositiveChunks() throws InterruptedException {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			Eithers.partition(createEithers(10), executor, 0);
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test
+	public void partition_parallel_rejected() throws InterruptedException {
+
+		RejectingExecutor executor = new RejectingExecutor(3);
+
+		try {
+			Eithers.partition(createEithers(10), executor, 5);
+			Assert.fail();
+		} catch (RejectedExecutionException e) {
+			Assert.assertEquals(3, executor.tasks.size());
+			for (Runnable task : executor.tasks) {
+				Assert.assertTrue(((Future<?>) task).isCancelled());
+			}
+		}
+
+	}
+
+	@Test
+	public void addAll() {
+
+		EitherPartition<String, Integer> partition = Eithers.partition(createEithers(3));
+
+		partition.addAll(Eithers.partition(createEithers(4)));
+
+		Assert.assertEquals(Arrays.asList("0", "0", "3"), partition.getLefts());
+		Assert.assertEquals(Arrays.asList(1, 2, 1, 2), partition.getRights());
+
+	}
+
+	@Test
+	public void add_grow() {
+
+		EitherPartition<String, Integer> partition = new EitherPartition<String, Integer>(0);
+
+		for (Either<String, Integer> either : createEithers(50)) {
+			partition.add(either);
+		}
+
+		Assert.assertEquals(Eithers.partition(createEithers(50)).getLefts(), partition.getLefts());
+		Assert.assertEquals(Eithers.partition(createEithers(50)).getRights(), partition.getRights());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sequence_null() {
+
+		Eithers.sequence(null);
+
+	}
+
+	@Test
+	public void sequence_rights() {
+
+		List<Either<String, Integer>> eithers = new ArrayList<Either<String, Integer>>();
+		eithers.add(new Right<String, Integer>(1));
+		eithers.add(new Right<String, Integer>(2));
+
+		Either<String, List<Integer>> result = Eithers.sequence(eithers);
+
+		Assert.assertEquals(Arrays.asList(1, 2), result.getRight());
+
+	}
+
+	@Test
+	public void sequence_shortCircuit() {
+
+		final List<Either<String, Integer>> eithers = createEithers(10);
+		final int[] iterations = new int[1];
+
+		Either<String, List<Integer>> result = Eithers.sequence(new Iterable<Either<String, Integer>>() {
+
+			@Override
+			public Iterator<Either<String, Integer>> iterator() {
+				final Iterator<Either<String, Integer>> iterator = eithers.subList(1, 10).iterator();
+				return new Iterator<Either<String, Integer>>() {
+
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Either<String, Integer> next() {
+						iterations[0]++;
+						return iterator.next();
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+
+				};
+			}
+
+		});
+
+		Assert.assertEquals("3", result.getLeft());
+		Assert.assertEquals(3, iterations[0]);
+
+	}
+
+	@Test
+	public void sequence_addAll() {
+
+		EitherSequence<String, Integer> first = new EitherSequence<String, Integer>();
+		first.add(new Right<String, Integer>(1));
+		EitherSequence<String, Integer> second = new EitherSequence<String, Integer>();
+		second.add(new Right<String, Integer>(2));
+		EitherSequence<String, Integer> third = new EitherSequence<String, Integer>();
+		third.add(new Left<String, Integer>("foo"));
+
+		Assert.assertEquals(Arrays.asList(1, 2), first.addAll(second).toEither().getRight());
+		Assert.assertEquals("foo", first.addAll(third).addAll(second).toEither().getLeft());
+
+	}
+
+	@Test
+	public void sequence_addAfterToEither() {
+
+		EitherSequence<String, Integer> sequence = new EitherSequence<String, Integer>();
+		sequence.add(new Right<String, Integer>(1));
+
+		Either<String, List<Integer>> either = sequence.toEither();
+		sequence.add(new Right<String, Integer>(2));
+
+		Assert.assertEquals(Arrays.asList(1), either.getRight());
+		Assert.assertEquals(Arrays.asList(1, 2), sequence.toEither().getRight());
+
+	}
+
+	@Test
+	public void sequence_addAfterLeft() {
+
+		EitherSequence<String, Integer> sequence = new EitherSequence<String, Integer>();
+
+		sequence.add(new Left<String, Integer>("foo"));
+		sequence.add(new Left<String, Integer>("bar"));
+		sequence.add(new Right<String, Integer>(1));
+
+		Assert.assertTrue(sequence.hasLeft());
+		Assert.assertEquals("foo", sequence.toEither().getLeft());
+
+	}
+
+	private static final class RejectingExecutor implements Executor {
+
+		private final List<Runnable> tasks = new ArrayList<Runnable>();
+
+		private final int capacity;
+
+		public RejectingExecutor(int capacity) {
+			this.capacity = capacity;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			if (tasks.size() == capacity) {
+				throw new RejectedExecutionException();
+			}
+			tasks.add(command);
+		}
+
+	}
+
+	private static List<Either<String, Integer>> createEithers(int size) {
+		List<Either<String, Integer>> eithers = new ArrayList<Either<String, Integer>>(size);
+		for (int i = 0; i < size; i++) {
+			if (0 == i % 3) {
+				eithers.add(new Left<String, Integer>(Integer.toString(i)));
+			} else {
+				eithers.add(new Right<String, Integer>(i));
+			}
+		}
+		return eithers;
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class EntryMapTests {
+
+	@Test
+	public void create_empty() {
+
+		EntryMap<Object, Object> map = new EntryMap<Object, Object>();
+
+		Assert.assertTrue(map.isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeSize() {
+
+		new EntryMap<Object, Object>(-1);
+
+	}
+
+	@Test
+	public void put_tooLarge() {
+
+		EntryMap<String, Integer> map = new EntryMap<String, Integer>(0, 8);
+		for (int i = 0; i < 6; i++) {
+			map.put("key" + i, i);
+		}
+
+		try {
+			map.put("key6", 6);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			Assert.assertEquals(6, map.size());
+			Assert.assertFalse(map.containsKey("key6"));
+		}
+		Assert.assertEquals(Integer.valueOf(0), map.put("key0", 42));
+		Assert.assertEquals(Integer.valueOf(42), map.get("key0"));
+
+	}
+
+	@Test
+	public void put_get() {
+
+		Object key = new Object();
+		Object value = new Object();
+		EntryMap<Object, Object> map = new EntryMap<Object, Object>();
+
+		map.put(key, value);
+
+		Assert.assertSame(value, map.get(key));
+		Assert.assertEquals(1, map.size());
+
+	}
+
+	@Test
+	public void put_replace() {
+
+		Object key = new Object();
+		Object value = new Object();
+		EntryMap<Object, Object> map = new EntryMap<Object, Object>();
+		map.put(key, value);
+
+		Assert.assertSame(value, map.put(key, new Object()));
+		Assert.assertEquals(1, map.size());
+
+	}
+
+	@Test
+	public void put_nullKey() {
+
+		Object value = new Object();
+		EntryMap<Object, Object> map = new EntryMap<Object, Object>();
+
+		map.put(null, value);
+
+		Assert.assertTrue(map.containsKey(null));
+		Assert.assertSame(value, map.get(null));
+		Assert.assertNull(map.getEntry(null).getKey());
+
+	}
+
+	@Test
+	public void get_missing() {
+
+		EntryMap<Object, Object> map = new EntryMap<Object, Object>();
+
+		Assert.assertNull(map.get(new Object()));
+		Assert.assertFalse(map.containsKey(new Object()));
+
+	}
+
+	@Test
+	public void get_fallback() {
+
+		Object fallback = new Object();
+		EntryMap<Object, Object> map = new EntryMap<Object, Object>();
+
+		Assert.assertSame(fallback, map.get(new Object(), fallback));
+
+	}
+
+	@Test
+	public void getEntry() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("key", "value");
+
+		Assert.assertEquals(new Entry<String, String>("key", "value"), map.getEntry("key"));
+
+	}
+
+	@Test
+	public void putAll() {
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Entry<String, String>[] entries = new Entry[] { new Entry<String, String>("a", "1"),
+				new Entry<String, String>("b", "2") };
+		EntryMap<String, String> map = new EntryMap<String, String>();
+
+		map.putAll(entries);
+
+		Assert.assertEquals("1", map.get("a"));
+		Assert.assertEquals("2", map.get("b"));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void putAll_null() {
+
+		new EntryMap<Object, Object>().putAll(null);
+
+	}
+
+	@Test
+	public void remove() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("key", "value");
+
+		Assert.assertEquals("value", map.remove("key"));
+		Assert.assertFalse(map.containsKey("key"));
+		Assert.assertTrue(map.isEmpty());
+
+	}
+
+	@Test
+	public void remove_missing() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+
+		Assert.assertNull(map.remove("key"));
+
+	}
+
+	@Test
+	public void remove_collisions() {
+
+		EntryMap<CollidingKey, Integer> map = new EntryMap<CollidingKey, Integer>();
+		for (int i = 0; i < 20; i++) {
+			map.put(new CollidingKey(i), i);
+		}
+
+		for (int i = 0; i < 20; i += 2) {
+			map.remove(new CollidingKey(i));
+		}
+
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals(1 == i % 2 ? Integer.valueOf(i) : null, map.get(new CollidingKey(i)));
+		}
+
+	}
+
+	@Test
+	public void randomOperations() {
+
+		Random random = new Random(42);
+		Map<Integer, Integer> reference = new HashMap<Integer, Integer>();
+		EntryMap<Integer, Integer> map = new EntryMap<Integer, Integer>();
+		for (int i = 0; i < 10000; i++) {
+			Integer key = random.nextInt(500);
+			if (random.nextBoolean()) {
+				Assert.assertEquals(reference.put(key, i), map.put(key, i));
+			} else {
+				Assert.assertEquals(reference.remove(key), map.remove(key));
+			}
+		}
+
+		Assert.assertEquals(reference.size(), map.size());
+		for (Map.Entry<Integer, Integer> entry : reference.entrySet()) {
+			Assert.assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+
+	}
+
+	@Test
+	public void clear() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("key", "value");
+
+		map.clear();
+
+		Assert.assertTrue(map.isEmpty());
+		Assert.assertNull(map.get("key"));
+
+	}
+
+	@Test
+	public void entries() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("a", "1");
+		map.put("b", "2");
+
+		List<Entry<String, String>> entries = map.entries();
+
+		Assert.assertEquals(2, entries.size());
+		Assert.assertTrue(entries.contains(new Entry<String, String>("a", "1")));
+		Assert.assertTrue(entries.contains(new Entry<String, String>("b", "2")));
+
+	}
+
+	@Test
+	public void cursor_iterate() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("a", "1");
+		map.put("b", "2");
+		map.put(null, "3");
+		EntryMapCursor<String, String> cursor = map.cursor();
+
+		Set<String> visited = new HashSet<String>();
+		while (cursor.next()) {
+			visited.add(cursor.getKey() + "=" + cursor.getValue());
+		}
+
+		Assert.assertEquals(3, visited.size());
+		Assert.assertTrue(visited.contains("null=3"));
+		Assert.assertFalse(cursor.next());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cursor_notPositioned() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("a", "1");
+
+		map.cursor().getKey();
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void cursor_modified() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("a", "1");
+		EntryMapCursor<String, String> cursor = map.cursor();
+		map.put("b", "2");
+
+		cursor.next();
+
+	}
+
+	private static final class CollidingKey {
+
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 7;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof CollidingKey && value == ((CollidingKey) object).value;
+		}
+
+	}
+
+	@Test
+	public void cursor_freeze() {
+
+		EntryMap<String, String> map = new EntryMap<String, String>();
+		map.put("a", "1");
+		EntryMapCursor<String, String> cursor = map.cursor();
+		cursor.next();
+
+		EntryView<String, String> view = cursor;
+
+		Assert.assertEquals(new Entry<String, String>("a", "1"), view.freeze());
+
+	}
+
+}
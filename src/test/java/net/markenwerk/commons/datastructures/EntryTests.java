@@ -21,6 +21,9 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -139,4 +142,51 @@ public class EntryTests {
 
 	}
 
+	@Test
+	public void hashCode_equal() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Entry<Object, Object> entry1 = new Entry<Object, Object>(first, second);
+		Entry<Object, Object> entry2 = new Entry<Object, Object>(first, second);
+
+		Assert.assertEquals(entry1.hashCode(), entry2.hashCode());
+
+	}
+
+	@Test
+	public void hashCode_notCachedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Entry<Object, Object> entry = new Entry<Object, Object>(null, counter);
+
+		entry.hashCode();
+		entry.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void hashCode_mutatedValue() {
+
+		List<Object> list = new ArrayList<Object>();
+		Entry<Object, Object> entry = new Entry<Object, Object>(null, list);
+		entry.hashCode();
+
+		list.add("foo");
+
+		Assert.assertEquals(new Entry<Object, Object>(null, new ArrayList<Object>(list)).hashCode(), entry.hashCode());
+
+	}
+
+	@Test
+	public void freeze() {
+
+		Entry<Object, Object> entry = new Entry<Object, Object>(new Object(), new Object());
+
+		Assert.assertSame(entry, entry.freeze());
+
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class HashCodeCachingTests {
+
+	@Test
+	public void tuple_cachedForImmutableValues() {
+
+		ImmutableHashCodeCounter counter = new ImmutableHashCodeCounter();
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(counter, "foo");
+
+		tuple.hashCode();
+		tuple.hashCode();
+
+		Assert.assertEquals(1, counter.getCount());
+
+	}
+
+	@Test
+	public void tuple_recomputedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(counter, "foo");
+
+		tuple.hashCode();
+		tuple.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void pair_cachedForImmutableValues() {
+
+		ImmutableHashCodeCounter counter = new ImmutableHashCodeCounter();
+		Pair<Object> pair = new Pair<Object>(counter, "foo");
+
+		pair.hashCode();
+		pair.hashCode();
+
+		Assert.assertEquals(1, counter.getCount());
+
+	}
+
+	@Test
+	public void pair_recomputedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Pair<Object> pair = new Pair<Object>(counter, "foo");
+
+		pair.hashCode();
+		pair.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void triple_cachedForImmutableValues() {
+
+		ImmutableHashCodeCounter counter = new ImmutableHashCodeCounter();
+		Triple<Object, Object, Object> triple = new Triple<Object, Object, Object>(counter, "foo", 42);
+
+		triple.hashCode();
+		triple.hashCode();
+
+		Assert.assertEquals(1, counter.getCount());
+
+	}
+
+	@Test
+	public void triple_recomputedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Triple<Object, Object, Object> triple = new Triple<Object, Object, Object>(counter, "foo", 42);
+
+		triple.hashCode();
+		triple.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void entry_cachedForImmutableValues() {
+
+		ImmutableHashCodeCounter counter = new ImmutableHashCodeCounter();
+		Entry<Object, Object> entry = new Entry<Object, Object>(counter, "foo");
+
+		entry.hashCode();
+		entry.hashCode();
+
+		Assert.assertEquals(1, counter.getCount());
+
+	}
+
+	@Test
+	public void entry_recomputedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Entry<Object, Object> entry = new Entry<Object, Object>(counter, "foo");
+
+		entry.hashCode();
+		entry.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void wrapper_cachedForImmutableValue() {
+
+		ImmutableHashCodeCounter counter = new ImmutableHashCodeCounter();
+		Wrapper<Object> wrapper = new Wrapper<Object>(counter);
+
+		wrapper.hashCode();
+		wrapper.hashCode();
+
+		Assert.assertEquals(1, counter.getCount());
+
+	}
+
+	@Test
+	public void wrapper_recomputedForUnknownValue() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Wrapper<Object> wrapper = new Wrapper<Object>(counter);
+
+		wrapper.hashCode();
+		wrapper.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void nested_cachedForImmutableValues() {
+
+		ImmutableHashCodeCounter counter = new ImmutableHashCodeCounter();
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(new Entry<Object, Object>(counter, 42), "foo");
+
+		tuple.hashCode();
+		tuple.hashCode();
+
+		Assert.assertEquals(1, counter.getCount());
+
+	}
+
+}
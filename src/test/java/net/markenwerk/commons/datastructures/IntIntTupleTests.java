@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntIntTupleTests {
+
+	@Test
+	public void getFirst() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2);
+
+		Assert.assertEquals(1, tuple.getFirst());
+
+	}
+
+	@Test
+	public void withFirst_changeFirst() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2).withFirst(3);
+
+		Assert.assertEquals(3, tuple.getFirst());
+
+	}
+
+	@Test
+	public void withFirst_keepSecond() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2).withFirst(3);
+
+		Assert.assertEquals(2, tuple.getSecond());
+
+	}
+
+	@Test
+	public void getSecond() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2);
+
+		Assert.assertEquals(2, tuple.getSecond());
+
+	}
+
+	@Test
+	public void withSecond_keepFirst() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2).withSecond(3);
+
+		Assert.assertEquals(1, tuple.getFirst());
+
+	}
+
+	@Test
+	public void withSecond_changeSecond() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2).withSecond(3);
+
+		Assert.assertEquals(3, tuple.getSecond());
+
+	}
+
+	@Test
+	public void toTuple() {
+
+		Tuple<Integer, Integer> tuple = new IntIntTuple(1, 2).toTuple();
+
+		Assert.assertEquals(new Tuple<Integer, Integer>(1, 2), tuple);
+
+	}
+
+	@Test
+	public void hashCode_tuple() {
+
+		IntIntTuple tuple = new IntIntTuple(1, 2);
+
+		Assert.assertEquals(new Tuple<Integer, Integer>(1, 2).hashCode(), tuple.hashCode());
+
+	}
+
+	@Test
+	public void equals_equal() {
+
+		IntIntTuple tuple1 = new IntIntTuple(1, 2);
+		IntIntTuple tuple2 = new IntIntTuple(1, 2);
+
+		Assert.assertEquals(tuple1, tuple2);
+
+	}
+
+	@Test
+	public void equals_nonEqualFirst() {
+
+		IntIntTuple tuple1 = new IntIntTuple(1, 2);
+		IntIntTuple tuple2 = new IntIntTuple(3, 2);
+
+		Assert.assertNotEquals(tuple1, tuple2);
+
+	}
+
+	@Test
+	public void equals_nonEqualSecond() {
+
+		IntIntTuple tuple1 = new IntIntTuple(1, 2);
+		IntIntTuple tuple2 = new IntIntTuple(1, 3);
+
+		Assert.assertNotEquals(tuple1, tuple2);
+
+	}
+
+}
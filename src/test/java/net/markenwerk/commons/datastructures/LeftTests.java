@@ -24,9 +24,30 @@ package net.markenwerk.commons.datastructures;
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
 @SuppressWarnings("javadoc")
 public class LeftTests {
 
+	private static final Converter<String, Integer> LENGTH = new Converter<String, Integer>() {
+
+		@Override
+		public Integer convert(String from) throws ConversionException {
+			return from.length();
+		}
+
+	};
+
+	private static final Converter<String, String> IDENTITY = new Converter<String, String>() {
+
+		@Override
+		public String convert(String from) throws ConversionException {
+			return from;
+		}
+
+	};
+
 	@Test
 	public void isLeft() {
 
@@ -94,4 +115,117 @@ public class LeftTests {
 
 	}
 
+	@Test
+	public void fold() {
+
+		Either<String, String> either = new Left<String, String>("foo");
+
+		Integer result = either.fold(LENGTH, new Converter<String, Integer>() {
+
+			@Override
+			public Integer convert(String from) throws ConversionException {
+				throw new AssertionError();
+			}
+
+		});
+
+		Assert.assertEquals(Integer.valueOf(3), result);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fold_nullConverter() {
+
+		Either<String, String> either = new Left<String, String>("foo");
+
+		either.fold(LENGTH, null);
+
+	}
+
+	@Test
+	public void mapLeft() {
+
+		Either<String, String> either = new Left<String, String>("foo");
+
+		Assert.assertEquals(new Left<Integer, String>(3), either.mapLeft(LENGTH));
+
+	}
+
+	@Test
+	public void mapLeft_unchanged() {
+
+		Either<String, String> either = new Left<String, String>("foo");
+
+		Assert.assertSame(either, either.mapLeft(IDENTITY));
+
+	}
+
+	@Test
+	public void mapRight() {
+
+		Either<String, String> either = new Left<String, String>("foo");
+
+		Assert.assertSame(either, either.mapRight(LENGTH));
+
+	}
+
+	@Test
+	public void flatMap() {
+
+		Either<String, String> either = new Left<String, String>("foo");
+
+		Assert.assertSame(either, either.flatMap(new Converter<String, Either<String, Integer>>() {
+
+			@Override
+			public Either<String, Integer> convert(String from) throws ConversionException {
+				throw new AssertionError();
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void of_null_shared() {
+
+		Assert.assertSame(Left.<Object, Object> of(null), Left.<Object, Object> of(null));
+
+	}
+
+	@Test
+	public void of_boolean_shared() {
+
+		Assert.assertSame(Left.<Object, Object> of(Boolean.TRUE), Left.<Object, Object> of(Boolean.TRUE));
+		Assert.assertNotSame(Left.<Object, Object> of(Boolean.TRUE), Left.<Object, Object> of(Boolean.FALSE));
+
+	}
+
+	@Test
+	public void of_smallInteger_shared() {
+
+		Assert.assertSame(Left.<Object, Object> of(Integer.valueOf(-128)),
+				Left.<Object, Object> of(Integer.valueOf(-128)));
+		Assert.assertSame(Left.<Object, Object> of(Integer.valueOf(127)),
+				Left.<Object, Object> of(Integer.valueOf(127)));
+		Assert.assertEquals(Integer.valueOf(42), Left.<Object, Object> of(Integer.valueOf(42)).getLeft());
+
+	}
+
+	@Test
+	public void of_largeInteger() {
+
+		Integer value = Integer.valueOf(100000);
+
+		Assert.assertNotSame(Left.<Object, Object> of(value), Left.<Object, Object> of(value));
+		Assert.assertSame(value, Left.<Object, Object> of(value).getLeft());
+
+	}
+
+	@Test
+	public void of_equalsConstructed() {
+
+		Assert.assertEquals(new Left<Object, Object>(null), Left.<Object, Object> of(null));
+
+	}
+
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongObjTupleTests {
+
+	@Test
+	public void getFirst() {
+
+		LongObjTuple<Object> tuple = new LongObjTuple<Object>(1L, null);
+
+		Assert.assertEquals(1L, tuple.getFirst());
+
+	}
+
+	@Test
+	public void getSecond_null() {
+
+		LongObjTuple<Object> tuple = new LongObjTuple<Object>(1L, null);
+
+		Assert.assertNull(tuple.getSecond());
+
+	}
+
+	@Test
+	public void getSecond_nonNull() {
+
+		Object second = new Object();
+		LongObjTuple<Object> tuple = new LongObjTuple<Object>(1L, second);
+
+		Assert.assertSame(second, tuple.getSecond());
+
+	}
+
+	@Test
+	public void withFirst_keepSecond() {
+
+		Object second = new Object();
+		LongObjTuple<Object> tuple = new LongObjTuple<Object>(1L, second).withFirst(2L);
+
+		Assert.assertSame(second, tuple.getSecond());
+
+	}
+
+	@Test
+	public void withSecond_changeSecond() {
+
+		Object replacement = new Object();
+		LongObjTuple<Object> tuple = new LongObjTuple<Object>(1L, null).withSecond(replacement);
+
+		Assert.assertSame(replacement, tuple.getSecond());
+
+	}
+
+	@Test
+	public void hashCode_tuple() {
+
+		LongObjTuple<String> tuple = new LongObjTuple<String>(Long.MAX_VALUE, "second");
+
+		Assert.assertEquals(new Tuple<Long, String>(Long.MAX_VALUE, "second").hashCode(), tuple.hashCode());
+
+	}
+
+	@Test
+	public void equals_equal() {
+
+		Object second = new Object();
+		LongObjTuple<Object> tuple1 = new LongObjTuple<Object>(1L, second);
+		LongObjTuple<Object> tuple2 = new LongObjTuple<Object>(1L, second);
+
+		Assert.assertEquals(tuple1, tuple2);
+
+	}
+
+	@Test
+	public void equals_nonEqualSecond() {
+
+		LongObjTuple<Object> tuple1 = new LongObjTuple<Object>(1L, new Object());
+		LongObjTuple<Object> tuple2 = new LongObjTuple<Object>(1L, new Object());
+
+		Assert.assertNotEquals(tuple1, tuple2);
+
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LruInternerTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new LruInterner<Object>(0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveConcurrencyLevel() {
+
+		new LruInterner<Object>(10, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_tooLargeConcurrencyLevel() {
+
+		new LruInterner<Object>(10, (1 << 30) + 1);
+
+	}
+
+	@Test
+	public void create_maximumConcurrencyLevel() {
+
+		LruInterner<Object> interner = new LruInterner<Object>(1, 1 << 30);
+
+		Assert.assertEquals("foo", interner.intern("foo"));
+		Assert.assertEquals(1, interner.size());
+
+	}
+
+	@Test
+	public void intern_null() {
+
+		Interner<Object> interner = new LruInterner<Object>(10);
+
+		Assert.assertNull(interner.intern(null));
+
+	}
+
+	@Test
+	public void intern_first() {
+
+		Entry<String, String> entry = new Entry<String, String>("key", "value");
+		Interner<Entry<String, String>> interner = new LruInterner<Entry<String, String>>(10);
+
+		Assert.assertSame(entry, interner.intern(entry));
+		Assert.assertEquals(0, interner.getHitCount());
+		Assert.assertEquals(1, interner.getMissCount());
+
+	}
+
+	@Test
+	public void intern_equal() {
+
+		Entry<String, String> entry = new Entry<String, String>("key", "value");
+		Interner<Entry<String, String>> interner = new LruInterner<Entry<String, String>>(10);
+		interner.intern(entry);
+
+		Assert.assertSame(entry, interner.intern(new Entry<String, String>("key", "value")));
+		Assert.assertEquals(1, interner.getHitCount());
+		Assert.assertEquals(1, interner.getMissCount());
+
+	}
+
+	@Test
+	public void intern_evicted() {
+
+		Pair<Integer> pair = new Pair<Integer>(0, 0);
+		Interner<Pair<Integer>> interner = new LruInterner<Pair<Integer>>(1, 1);
+		interner.intern(pair);
+		interner.intern(new Pair<Integer>(1, 1));
+
+		Pair<Integer> equalPair = new Pair<Integer>(0, 0);
+
+		Assert.assertSame(equalPair, interner.intern(equalPair));
+
+	}
+
+	@Test
+	public void intern_recentlyUsed() {
+
+		Pair<Integer> pair = new Pair<Integer>(0, 0);
+		Interner<Pair<Integer>> interner = new LruInterner<Pair<Integer>>(2, 1);
+		interner.intern(pair);
+		interner.intern(new Pair<Integer>(1, 1));
+		interner.intern(new Pair<Integer>(0, 0));
+		interner.intern(new Pair<Integer>(2, 2));
+
+		Assert.assertSame(pair, interner.intern(new Pair<Integer>(0, 0)));
+
+	}
+
+	@Test
+	public void intern_sameInstance() {
+
+		Entry<String, String> entry = new Entry<String, String>("key", "value");
+		Interner<Entry<String, String>> interner = new LruInterner<Entry<String, String>>(10);
+
+		interner.intern(entry);
+		interner.intern(entry);
+
+		Assert.assertEquals(1, interner.getHitCount());
+		Assert.assertEquals(1, interner.getMissCount());
+
+	}
+
+	@Test
+	public void intern_bounded() {
+
+		for (int maximumSize : new int[] { 1, 3, 17, 100 }) {
+			LruInterner<Integer> interner = new LruInterner<Integer>(maximumSize);
+			for (int i = 0; i < 1000; i++) {
+				interner.intern(i);
+			}
+
+			Assert.assertTrue(interner.size() <= maximumSize);
+		}
+
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class MemoizingOptionalSelectionTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSelection() {
+
+		new MemoizingOptionalSelection<String, Integer>(null, 10, EvictionPolicy.LEAST_RECENTLY_USED);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new MemoizingOptionalSelection<String, Integer>(new CountingSelection(), 0,
+				EvictionPolicy.LEAST_RECENTLY_USED);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPolicy() {
+
+		new MemoizingOptionalSelection<String, Integer>(new CountingSelection(), 10, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveConcurrencyLevel() {
+
+		new MemoizingOptionalSelection<String, Integer>(new CountingSelection(), 10,
+				EvictionPolicy.LEAST_RECENTLY_USED, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_tooLargeConcurrencyLevel() {
+
+		new MemoizingOptionalSelection<String, Integer>(new CountingSelection(), 10,
+				EvictionPolicy.LEAST_RECENTLY_USED, Integer.MAX_VALUE);
+
+	}
+
+	@Test
+	public void create_maximumConcurrencyLevel() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 10, EvictionPolicy.LEAST_RECENTLY_USED, 1 << 30);
+
+		new Optional<String>("foo").select(memoizing);
+		Integer result = new Optional<String>("foo").select(memoizing);
+
+		Assert.assertEquals(Integer.valueOf(3), result);
+		Assert.assertEquals(1, selection.valueCalls);
+
+	}
+
+	@Test
+	public void onNoValue_cached() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 10, EvictionPolicy.LEAST_RECENTLY_USED);
+
+		new Optional<String>().select(memoizing);
+		Integer result = new Optional<String>().select(memoizing);
+
+		Assert.assertEquals(Integer.valueOf(-1), result);
+		Assert.assertEquals(1, selection.noValueCalls);
+
+	}
+
+	@Test
+	public void onValue_cached() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 10, EvictionPolicy.LEAST_RECENTLY_USED);
+
+		new Optional<String>("foo").select(memoizing);
+		Integer result = new Optional<String>("foo").select(memoizing);
+
+		Assert.assertEquals(Integer.valueOf(3), result);
+		Assert.assertEquals(1, selection.valueCalls);
+		Assert.assertEquals(1, memoizing.getHitCount());
+		Assert.assertEquals(1, memoizing.getMissCount());
+
+	}
+
+	@Test
+	public void onValue_nullPayload() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 10, EvictionPolicy.LEAST_RECENTLY_USED);
+
+		memoizing.onValue(null);
+		Integer result = memoizing.onValue(null);
+
+		Assert.assertEquals(Integer.valueOf(0), result);
+		Assert.assertEquals(1, selection.valueCalls);
+
+	}
+
+	@Test
+	public void evict_leastRecentlyUsed() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 2, EvictionPolicy.LEAST_RECENTLY_USED, 1);
+
+		memoizing.onValue("a");
+		memoizing.onValue("b");
+		memoizing.onValue("a");
+		memoizing.onValue("c");
+		memoizing.onValue("a");
+		memoizing.onValue("b");
+
+		Assert.assertEquals(2, memoizing.getHitCount());
+		Assert.assertEquals(4, memoizing.getMissCount());
+
+	}
+
+	@Test
+	public void evict_leastFrequentlyUsed() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 2, EvictionPolicy.LEAST_FREQUENTLY_USED, 1);
+
+		memoizing.onValue("a");
+		memoizing.onValue("a");
+		memoizing.onValue("b");
+		memoizing.onValue("c");
+		memoizing.onValue("a");
+		memoizing.onValue("b");
+
+		Assert.assertEquals(2, memoizing.getHitCount());
+		Assert.assertEquals(4, memoizing.getMissCount());
+
+	}
+
+	@Test
+	public void evict_firstInFirstOut() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 2, EvictionPolicy.FIRST_IN_FIRST_OUT, 1);
+
+		memoizing.onValue("a");
+		memoizing.onValue("b");
+		memoizing.onValue("a");
+		memoizing.onValue("c");
+		memoizing.onValue("a");
+
+		Assert.assertEquals(1, memoizing.getHitCount());
+		Assert.assertEquals(4, memoizing.getMissCount());
+		Assert.assertEquals(2, memoizing.size());
+
+	}
+
+	@Test
+	public void evict_timeToLive() throws InterruptedException {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 10, EvictionPolicy.LEAST_RECENTLY_USED, 1, TimeUnit.MILLISECONDS, 1);
+
+		memoizing.onValue("a");
+		Thread.sleep(10);
+		memoizing.onValue("a");
+
+		Assert.assertEquals(0, memoizing.getHitCount());
+		Assert.assertEquals(2, selection.valueCalls);
+
+	}
+
+	@Test
+	public void clear() {
+
+		CountingSelection selection = new CountingSelection();
+		MemoizingOptionalSelection<String, Integer> memoizing = new MemoizingOptionalSelection<String, Integer>(
+				selection, 10, EvictionPolicy.LEAST_RECENTLY_USED);
+
+		memoizing.onValue("a");
+		memoizing.clear();
+		memoizing.onValue("a");
+
+		Assert.assertEquals(1, memoizing.size());
+		Assert.assertEquals(2, selection.valueCalls);
+
+	}
+
+	private static final class CountingSelection implements OptionalSelection<String, Integer> {
+
+		private int noValueCalls;
+
+		private int valueCalls;
+
+		@Override
+		public Integer onNoValue() {
+			noValueCalls++;
+			return -1;
+		}
+
+		@Override
+		public Integer onValue(String payload) {
+			valueCalls++;
+			return null == payload ? 0 : payload.length();
+		}
+
+	}
+
+}
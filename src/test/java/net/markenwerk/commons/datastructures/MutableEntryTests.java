@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class MutableEntryTests {
+
+	@Test
+	public void create_empty() {
+
+		MutableEntry<Object, Object> entry = new MutableEntry<Object, Object>();
+
+		Assert.assertNull(entry.getKey());
+		Assert.assertNull(entry.getValue());
+
+	}
+
+	@Test
+	public void create() {
+
+		Object key = new Object();
+		Object value = new Object();
+
+		MutableEntry<Object, Object> entry = new MutableEntry<Object, Object>(key, value);
+
+		Assert.assertSame(key, entry.getKey());
+		Assert.assertSame(value, entry.getValue());
+
+	}
+
+	@Test
+	public void setters() {
+
+		Object key = new Object();
+		Object value = new Object();
+		MutableEntry<Object, Object> entry = new MutableEntry<Object, Object>();
+
+		entry.setKey(key);
+		entry.setValue(value);
+
+		Assert.assertSame(key, entry.getKey());
+		Assert.assertSame(value, entry.getValue());
+
+	}
+
+	@Test
+	public void set() {
+
+		Object key = new Object();
+		Object value = new Object();
+		MutableEntry<Object, Object> entry = new MutableEntry<Object, Object>();
+
+		entry.set(key, value);
+
+		Assert.assertSame(key, entry.getKey());
+		Assert.assertSame(value, entry.getValue());
+
+	}
+
+	@Test
+	public void freeze() {
+
+		Object key = new Object();
+		Object value = new Object();
+		MutableEntry<Object, Object> entry = new MutableEntry<Object, Object>(key, value);
+
+		Entry<Object, Object> frozen = entry.freeze();
+		entry.set(null, null);
+
+		Assert.assertEquals(new Entry<Object, Object>(key, value), frozen);
+
+	}
+
+	@Test
+	public void reuse() {
+
+		MutableEntry<Object, Object> entry = new MutableEntry<Object, Object>();
+		EntryView<Object, Object> view = entry;
+
+		for (int i = 0; i < 3; i++) {
+			entry.set(i, null);
+			Assert.assertEquals(Integer.valueOf(i), view.getKey());
+		}
+
+	}
+
+}
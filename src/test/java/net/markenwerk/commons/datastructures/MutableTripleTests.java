@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class MutableTripleTests {
+
+	@Test
+	public void create_empty() {
+
+		MutableTriple<Object, Object, Object> triple = new MutableTriple<Object, Object, Object>();
+
+		Assert.assertNull(triple.getFirst());
+		Assert.assertNull(triple.getSecond());
+		Assert.assertNull(triple.getThird());
+
+	}
+
+	@Test
+	public void create() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+
+		MutableTriple<Object, Object, Object> triple = new MutableTriple<Object, Object, Object>(first, second, third);
+
+		Assert.assertSame(first, triple.getFirst());
+		Assert.assertSame(second, triple.getSecond());
+		Assert.assertSame(third, triple.getThird());
+
+	}
+
+	@Test
+	public void setters() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+		MutableTriple<Object, Object, Object> triple = new MutableTriple<Object, Object, Object>();
+
+		triple.setFirst(first);
+		triple.setSecond(second);
+		triple.setThird(third);
+
+		Assert.assertSame(first, triple.getFirst());
+		Assert.assertSame(second, triple.getSecond());
+		Assert.assertSame(third, triple.getThird());
+
+	}
+
+	@Test
+	public void set() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+		MutableTriple<Object, Object, Object> triple = new MutableTriple<Object, Object, Object>();
+
+		triple.set(first, second, third);
+
+		Assert.assertSame(first, triple.getFirst());
+		Assert.assertSame(second, triple.getSecond());
+		Assert.assertSame(third, triple.getThird());
+
+	}
+
+	@Test
+	public void freeze() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+		MutableTriple<Object, Object, Object> triple = new MutableTriple<Object, Object, Object>(first, second, third);
+
+		Triple<Object, Object, Object> frozen = triple.freeze();
+		triple.set(null, null, null);
+
+		Assert.assertEquals(new Triple<Object, Object, Object>(first, second, third), frozen);
+
+	}
+
+	@Test
+	public void reuse() {
+
+		MutableTriple<Object, Object, Object> triple = new MutableTriple<Object, Object, Object>();
+		TripleView<Object, Object, Object> view = triple;
+
+		for (int i = 0; i < 3; i++) {
+			triple.set(i, null, null);
+			Assert.assertEquals(Integer.valueOf(i), view.getFirst());
+		}
+
+	}
+
+}
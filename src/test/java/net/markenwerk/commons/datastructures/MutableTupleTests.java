@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class MutableTupleTests {
+
+	@Test
+	public void create_empty() {
+
+		MutableTuple<Object, Object> tuple = new MutableTuple<Object, Object>();
+
+		Assert.assertNull(tuple.getFirst());
+		Assert.assertNull(tuple.getSecond());
+
+	}
+
+	@Test
+	public void create() {
+
+		Object first = new Object();
+		Object second = new Object();
+
+		MutableTuple<Object, Object> tuple = new MutableTuple<Object, Object>(first, second);
+
+		Assert.assertSame(first, tuple.getFirst());
+		Assert.assertSame(second, tuple.getSecond());
+
+	}
+
+	@Test
+	public void setters() {
+
+		Object first = new Object();
+		Object second = new Object();
+		MutableTuple<Object, Object> tuple = new MutableTuple<Object, Object>();
+
+		tuple.setFirst(first);
+		tuple.setSecond(second);
+
+		Assert.assertSame(first, tuple.getFirst());
+		Assert.assertSame(second, tuple.getSecond());
+
+	}
+
+	@Test
+	public void set() {
+
+		Object first = new Object();
+		Object second = new Object();
+		MutableTuple<Object, Object> tuple = new MutableTuple<Object, Object>();
+
+		tuple.set(first, second);
+
+		Assert.assertSame(first, tuple.getFirst());
+		Assert.assertSame(second, tuple.getSecond());
+
+	}
+
+	@Test
+	public void freeze() {
+
+		Object first = new Object();
+		Object second = new Object();
+		MutableTuple<Object, Object> tuple = new MutableTuple<Object, Object>(first, second);
+
+		Tuple<Object, Object> frozen = tuple.freeze();
+		tuple.set(null, null);
+
+		Assert.assertEquals(new Tuple<Object, Object>(first, second), frozen);
+
+	}
+
+	@Test
+	public void reuse() {
+
+		MutableTuple<Object, Object> tuple = new MutableTuple<Object, Object>();
+		TupleView<Object, Object> view = tuple;
+
+		for (int i = 0; i < 3; i++) {
+			tuple.set(i, null);
+			Assert.assertEquals(Integer.valueOf(i), view.getFirst());
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ObjDoubleTupleTests {
+
+	@Test
+	public void getFirst_nonNull() {
+
+		Object first = new Object();
+		ObjDoubleTuple<Object> tuple = new ObjDoubleTuple<Object>(first, 1d);
+
+		Assert.assertSame(first, tuple.getFirst());
+
+	}
+
+	@Test
+	public void getSecond() {
+
+		ObjDoubleTuple<Object> tuple = new ObjDoubleTuple<Object>(null, 1d);
+
+		Assert.assertEquals(1d, tuple.getSecond(), 0d);
+
+	}
+
+	@Test
+	public void withSecond_keepFirst() {
+
+		Object first = new Object();
+		ObjDoubleTuple<Object> tuple = new ObjDoubleTuple<Object>(first, 1d).withSecond(2d);
+
+		Assert.assertSame(first, tuple.getFirst());
+
+	}
+
+	@Test
+	public void hashCode_tuple() {
+
+		ObjDoubleTuple<String> tuple = new ObjDoubleTuple<String>("first", 0.5d);
+
+		Assert.assertEquals(new Tuple<String, Double>("first", 0.5d).hashCode(), tuple.hashCode());
+
+	}
+
+	@Test
+	public void equals_nan() {
+
+		ObjDoubleTuple<Object> tuple1 = new ObjDoubleTuple<Object>(null, Double.NaN);
+		ObjDoubleTuple<Object> tuple2 = new ObjDoubleTuple<Object>(null, Double.NaN);
+
+		Assert.assertEquals(tuple1, tuple2);
+
+	}
+
+	@Test
+	public void equals_signedZero() {
+
+		ObjDoubleTuple<Object> tuple1 = new ObjDoubleTuple<Object>(null, 0d);
+		ObjDoubleTuple<Object> tuple2 = new ObjDoubleTuple<Object>(null, -0d);
+
+		Assert.assertNotEquals(tuple1, tuple2);
+
+	}
+
+}
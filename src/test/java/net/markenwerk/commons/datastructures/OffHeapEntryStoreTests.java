@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class OffHeapEntryStoreTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeExpectedSize() {
+
+		new OffHeapEntryStore(-1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_tooLargeExpectedSize() {
+
+		new OffHeapEntryStore(Integer.MAX_VALUE);
+
+	}
+
+	@Test
+	public void create_empty() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+
+		Assert.assertEquals(0, store.size());
+		Assert.assertTrue(store.isEmpty());
+		Assert.assertFalse(store.containsKey(42L));
+		Assert.assertEquals(-1L, store.get(42L, -1L));
+		Assert.assertNull(store.getEntry(42L));
+		store.close();
+
+	}
+
+	@Test
+	public void put_get() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+
+		Assert.assertTrue(store.put(42L, 23L));
+		Assert.assertFalse(store.put(42L, 24L));
+
+		Assert.assertEquals(1, store.size());
+		Assert.assertTrue(store.containsKey(42L));
+		Assert.assertEquals(24L, store.get(42L, -1L));
+		Assert.assertEquals(new Entry<Long, Long>(42L, 24L), store.getEntry(42L));
+		store.close();
+
+	}
+
+	@Test
+	public void put_zeroKey() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+
+		Assert.assertFalse(store.containsKey(0L));
+		Assert.assertTrue(store.put(0L, 0L));
+		Assert.assertFalse(store.put(0L, 1L));
+
+		Assert.assertEquals(1, store.size());
+		Assert.assertEquals(1L, store.get(0L, -1L));
+		Assert.assertEquals(new Entry<Long, Long>(0L, 1L), store.getEntry(0L));
+		Assert.assertTrue(store.remove(0L));
+		Assert.assertFalse(store.remove(0L));
+		Assert.assertFalse(store.containsKey(0L));
+		store.close();
+
+	}
+
+	@Test
+	public void put_entry() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+
+		store.put(new Entry<Long, Long>(42L, 23L));
+
+		Assert.assertEquals(23L, store.get(42L, -1L));
+		store.close();
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void put_nullEntry() {
+
+		new OffHeapEntryStore().put(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void put_entryWithNullValue() {
+
+		new OffHeapEntryStore().put(new Entry<Long, Long>(42L, null));
+
+	}
+
+	@Test
+	public void remove() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+		store.put(42L, 23L);
+
+		Assert.assertTrue(store.remove(42L));
+		Assert.assertFalse(store.remove(42L));
+		Assert.assertFalse(store.containsKey(42L));
+		Assert.assertTrue(store.isEmpty());
+		store.close();
+
+	}
+
+	@Test
+	public void randomOperations() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+		Map<Long, Long> reference = new HashMap<Long, Long>();
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			long key = random.nextInt(1000) - 500;
+			if (random.nextInt(3) == 0) {
+				Assert.assertEquals(null != reference.remove(key), store.remove(key));
+			} else {
+				long value = random.nextLong();
+				Assert.assertEquals(null == reference.put(key, value), store.put(key, value));
+			}
+		}
+
+		Assert.assertEquals(reference.size(), store.size());
+		for (long key = -500; key < 500; key++) {
+			Long value = reference.get(key);
+			Assert.assertEquals(null != value, store.containsKey(key));
+			if (null != value) {
+				Assert.assertEquals(value.longValue(), store.get(key, 0L));
+			}
+		}
+		store.close();
+
+	}
+
+	@Test
+	public void put_resizes() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+		for (long key = 1; key <= 10000; key++) {
+			store.put(key, -key);
+		}
+
+		Assert.assertEquals(10000, store.size());
+		Assert.assertTrue(store.getMemoryUsage() >= 10000 * 16);
+		for (long key = 1; key <= 10000; key++) {
+			Assert.assertEquals(-key, store.get(key, 0L));
+		}
+		store.close();
+
+	}
+
+	@Test
+	public void clear() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+		store.put(0L, 1L);
+		store.put(42L, 23L);
+
+		store.clear();
+
+		Assert.assertTrue(store.isEmpty());
+		Assert.assertFalse(store.containsKey(0L));
+		Assert.assertFalse(store.containsKey(42L));
+		store.close();
+
+	}
+
+	@Test
+	public void close() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+		store.put(42L, 23L);
+
+		store.close();
+		store.close();
+
+		Assert.assertEquals(0, store.getMemoryUsage());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void get_closed() {
+
+		OffHeapEntryStore store = new OffHeapEntryStore();
+		store.close();
+
+		store.get(42L, -1L);
+
+	}
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+@SuppressWarnings("javadoc")
+public class OptionalDoubleTests {
+
+	@Test
+	public void getValue_value() {
+
+		OptionalDouble optional = new OptionalDouble(4.2d);
+
+		Assert.assertEquals(4.2d, optional.getValue(), 0d);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getValue_noValue() {
+
+		OptionalDouble optional = new OptionalDouble();
+
+		optional.getValue();
+
+	}
+
+	@Test
+	public void getValue_fallback() {
+
+		OptionalDouble optional = new OptionalDouble(4.2d);
+
+		Assert.assertEquals(4.2d, optional.getValue(-1d), 0d);
+
+	}
+
+	@Test
+	public void getValue_fallback_noValue() {
+
+		OptionalDouble optional = new OptionalDouble();
+
+		Assert.assertEquals(-1d, optional.getValue(-1d), 0d);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getValue_nullProvider() {
+
+		new OptionalDouble().getValue((DoubleProvider) null);
+
+	}
+
+	@Test
+	public void getValue_provider_noValue() {
+
+		OptionalDouble optional = new OptionalDouble();
+
+		Assert.assertEquals(2.3d, optional.getValue(new DoubleProvider() {
+
+			@Override
+			public double provide() throws ProvisioningException {
+				return 2.3d;
+			}
+
+		}), 0d);
+
+	}
+
+	@Test
+	public void empty_shared() {
+
+		Assert.assertSame(OptionalDouble.empty(), OptionalDouble.empty());
+
+	}
+
+	@Test
+	public void of_value() {
+
+		Assert.assertEquals(4.2d, OptionalDouble.of(4.2d).getValue(), 0d);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void select_nullSelection() {
+
+		new OptionalDouble().select(null);
+
+	}
+
+	@Test
+	public void select_value() {
+
+		OptionalDouble optional = new OptionalDouble(4.2d);
+
+		Assert.assertEquals("value", optional.select(new OptionalDoubleSelection<String>() {
+
+			@Override
+			public String onNoValue() {
+				return "noValue";
+			}
+
+			@Override
+			public String onValue(double payload) {
+				return "value";
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void select_noValue() {
+
+		OptionalDouble optional = new OptionalDouble();
+
+		Assert.assertEquals("noValue", optional.select(new OptionalDoubleSelection<String>() {
+
+			@Override
+			public String onNoValue() {
+				return "noValue";
+			}
+
+			@Override
+			public String onValue(double payload) {
+				return "value";
+			}
+
+		}));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void convert_nullConverter() {
+
+		new OptionalDouble().convert(null);
+
+	}
+
+	@Test
+	public void convert_value() {
+
+		OptionalDouble optional = new OptionalDouble(4.2d);
+
+		Assert.assertEquals(2.3d, optional.convert(new DoubleConverter() {
+
+			@Override
+			public double convert(double from) {
+				return 2.3d;
+			}
+
+		}).getValue(), 0d);
+
+	}
+
+	@Test
+	public void convert_noValue() {
+
+		OptionalDouble optional = new OptionalDouble();
+
+		Assert.assertSame(OptionalDouble.empty(), optional.convert(new DoubleConverter() {
+
+			@Override
+			public double convert(double from) {
+				return from;
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void hasValue_value() {
+
+		Assert.assertTrue(new OptionalDouble(4.2d).hasValue());
+
+	}
+
+	@Test
+	public void hasValue_noValue() {
+
+		Assert.assertFalse(new OptionalDouble().hasValue());
+
+	}
+
+	@Test
+	public void equals_equal() {
+
+		OptionalDouble optional1 = new OptionalDouble(4.2d);
+		OptionalDouble optional2 = new OptionalDouble(4.2d);
+
+		Assert.assertEquals(optional1, optional2);
+		Assert.assertEquals(optional1.hashCode(), optional2.hashCode());
+
+	}
+
+	@Test
+	public void equals_nonEqual() {
+
+		OptionalDouble optional1 = new OptionalDouble(4.2d);
+		OptionalDouble optional2 = new OptionalDouble(2.3d);
+
+		Assert.assertNotEquals(optional1, optional2);
+
+	}
+
+	@Test
+	public void equals_noValue() {
+
+		Assert.assertNotEquals(new OptionalDouble(), new OptionalDouble(0d));
+
+	}
+
+}
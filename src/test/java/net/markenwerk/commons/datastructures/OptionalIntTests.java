@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+@SuppressWarnings("javadoc")
+public class OptionalIntTests {
+
+	@Test
+	public void getValue_value() {
+
+		OptionalInt optional = new OptionalInt(42);
+
+		Assert.assertEquals(42, optional.getValue());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getValue_noValue() {
+
+		OptionalInt optional = new OptionalInt();
+
+		optional.getValue();
+
+	}
+
+	@Test
+	public void getValue_fallback() {
+
+		OptionalInt optional = new OptionalInt(42);
+
+		Assert.assertEquals(42, optional.getValue(-1));
+
+	}
+
+	@Test
+	public void getValue_fallback_noValue() {
+
+		OptionalInt optional = new OptionalInt();
+
+		Assert.assertEquals(-1, optional.getValue(-1));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getValue_nullProvider() {
+
+		new OptionalInt().getValue((IntProvider) null);
+
+	}
+
+	@Test
+	public void getValue_provider_noValue() {
+
+		OptionalInt optional = new OptionalInt();
+
+		Assert.assertEquals(23, optional.getValue(new IntProvider() {
+
+			@Override
+			public int provide() throws ProvisioningException {
+				return 23;
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void empty_shared() {
+
+		Assert.assertSame(OptionalInt.empty(), OptionalInt.empty());
+
+	}
+
+	@Test
+	public void of_value() {
+
+		Assert.assertEquals(42, OptionalInt.of(42).getValue());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void select_nullSelection() {
+
+		new OptionalInt().select(null);
+
+	}
+
+	@Test
+	public void select_value() {
+
+		OptionalInt optional = new OptionalInt(42);
+
+		Assert.assertEquals("value", optional.select(new OptionalIntSelection<String>() {
+
+			@Override
+			public String onNoValue() {
+				return "noValue";
+			}
+
+			@Override
+			public String onValue(int payload) {
+				return "value";
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void select_noValue() {
+
+		OptionalInt optional = new OptionalInt();
+
+		Assert.assertEquals("noValue", optional.select(new OptionalIntSelection<String>() {
+
+			@Override
+			public String onNoValue() {
+				return "noValue";
+			}
+
+			@Override
+			public String onValue(int payload) {
+				return "value";
+			}
+
+		}));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void convert_nullConverter() {
+
+		new OptionalInt().convert(null);
+
+	}
+
+	@Test
+	public void convert_value() {
+
+		OptionalInt optional = new OptionalInt(42);
+
+		Assert.assertEquals(23, optional.convert(new IntConverter() {
+
+			@Override
+			public int convert(int from) {
+				return 23;
+			}
+
+		}).getValue());
+
+	}
+
+	@Test
+	public void convert_noValue() {
+
+		OptionalInt optional = new OptionalInt();
+
+		Assert.assertSame(OptionalInt.empty(), optional.convert(new IntConverter() {
+
+			@Override
+			public int convert(int from) {
+				return from;
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void hasValue_value() {
+
+		Assert.assertTrue(new OptionalInt(42).hasValue());
+
+	}
+
+	@Test
+	public void hasValue_noValue() {
+
+		Assert.assertFalse(new OptionalInt().hasValue());
+
+	}
+
+	@Test
+	public void equals_equal() {
+
+		OptionalInt optional1 = new OptionalInt(42);
+		OptionalInt optional2 = new OptionalInt(42);
+
+		Assert.assertEquals(optional1, optional2);
+		Assert.assertEquals(optional1.hashCode(), optional2.hashCode());
+
+	}
+
+	@Test
+	public void equals_nonEqual() {
+
+		OptionalInt optional1 = new OptionalInt(42);
+		OptionalInt optional2 = new OptionalInt(23);
+
+		Assert.assertNotEquals(optional1, optional2);
+
+	}
+
+	@Test
+	public void equals_noValue() {
+
+		Assert.assertNotEquals(new OptionalInt(), new OptionalInt(0));
+
+	}
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+@SuppressWarnings("javadoc")
+public class OptionalLongTests {
+
+	@Test
+	public void getValue_value() {
+
+		OptionalLong optional = new OptionalLong(42L);
+
+		Assert.assertEquals(42L, optional.getValue());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getValue_noValue() {
+
+		OptionalLong optional = new OptionalLong();
+
+		optional.getValue();
+
+	}
+
+	@Test
+	public void getValue_fallback() {
+
+		OptionalLong optional = new OptionalLong(42L);
+
+		Assert.assertEquals(42L, optional.getValue(-1L));
+
+	}
+
+	@Test
+	public void getValue_fallback_noValue() {
+
+		OptionalLong optional = new OptionalLong();
+
+		Assert.assertEquals(-1L, optional.getValue(-1L));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getValue_nullProvider() {
+
+		new OptionalLong().getValue((LongProvider) null);
+
+	}
+
+	@Test
+	public void getValue_provider_noValue() {
+
+		OptionalLong optional = new OptionalLong();
+
+		Assert.assertEquals(23L, optional.getValue(new LongProvider() {
+
+			@Override
+			public long provide() throws ProvisioningException {
+				return 23L;
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void empty_shared() {
+
+		Assert.assertSame(OptionalLong.empty(), OptionalLong.empty());
+
+	}
+
+	@Test
+	public void of_value() {
+
+		Assert.assertEquals(42L, OptionalLong.of(42L).getValue());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void select_nullSelection() {
+
+		new OptionalLong().select(null);
+
+	}
+
+	@Test
+	public void select_value() {
+
+		OptionalLong optional = new OptionalLong(42L);
+
+		Assert.assertEquals("value", optional.select(new OptionalLongSelection<String>() {
+
+			@Override
+			public String onNoValue() {
+				return "noValue";
+			}
+
+			@Override
+			public String onValue(long payload) {
+				return "value";
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void select_noValue() {
+
+		OptionalLong optional = new OptionalLong();
+
+		Assert.assertEquals("noValue", optional.select(new OptionalLongSelection<String>() {
+
+			@Override
+			public String onNoValue() {
+				return "noValue";
+			}
+
+			@Override
+			public String onValue(long payload) {
+				return "value";
+			}
+
+		}));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void convert_nullConverter() {
+
+		new OptionalLong().convert(null);
+
+	}
+
+	@Test
+	public void convert_value() {
+
+		OptionalLong optional = new OptionalLong(42L);
+
+		Assert.assertEquals(23L, optional.convert(new LongConverter() {
+
+			@Override
+			public long convert(long from) {
+				return 23L;
+			}
+
+		}).getValue());
+
+	}
+
+	@Test
+	public void convert_noValue() {
+
+		OptionalLong optional = new OptionalLong();
+
+		Assert.assertSame(OptionalLong.empty(), optional.convert(new LongConverter() {
+
+			@Override
+			public long convert(long from) {
+				return from;
+			}
+
+		}));
+
+	}
+
+	@Test
+	public void hasValue_value() {
+
+		Assert.assertTrue(new OptionalLong(42L).hasValue());
+
+	}
+
+	@Test
+	public void hasValue_noValue() {
+
+		Assert.assertFalse(new OptionalLong().hasValue());
+
+	}
+
+	@Test
+	public void equals_equal() {
+
+		OptionalLong optional1 = new OptionalLong(42L);
+		OptionalLong optional2 = new OptionalLong(42L);
+
+		Assert.assertEquals(optional1, optional2);
+		Assert.assertEquals(optional1.hashCode(), optional2.hashCode());
+
+	}
+
+	@Test
+	public void equals_nonEqual() {
+
+		OptionalLong optional1 = new OptionalLong(42L);
+		OptionalLong optional2 = new OptionalLong(23L);
+
+		Assert.assertNotEquals(optional1, optional2);
+
+	}
+
+	@Test
+	public void equals_noValue() {
+
+		Assert.assertNotEquals(new OptionalLong(), new OptionalLong(0L));
+
+	}
+
+}
@@ -22,6 +22,9 @@
 package net.markenwerk.commons.datastructures;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -262,4 +265,245 @@ public class OptionalTests {
 
 	}
 
+	@Test
+	public void empty_noValue() {
+
+		Assert.assertFalse(Optional.empty().hasValue());
+
+	}
+
+	@Test
+	public void empty_shared() {
+
+		Assert.assertSame(Optional.<Object> empty(), Optional.<String> empty());
+
+	}
+
+	@Test
+	public void empty_equalsNoValue() {
+
+		Assert.assertEquals(new Optional<Object>(), Optional.empty());
+
+	}
+
+	@Test
+	public void of_null() {
+
+		Optional<Object> optional = Optional.of(null);
+
+		Assert.assertTrue(optional.hasValue());
+		Assert.assertNull(optional.getValue());
+
+	}
+
+	@Test
+	public void of_nonNull() {
+
+		Object value = new Object();
+		Optional<Object> optional = Optional.of(value);
+
+		Assert.assertSame(value, optional.getValue());
+
+	}
+
+	@Test
+	public void ofNullable_null() {
+
+		Assert.assertSame(Optional.empty(), Optional.ofNullable(null));
+
+	}
+
+	@Test
+	public void ofNullable_nonNull() {
+
+		Object value = new Object();
+		Optional<Object> optional = Optional.ofNullable(value);
+
+		Assert.assertSame(value, optional.getValue());
+
+	}
+
+	@Test
+	public void convert_noValue_shared() {
+
+		Optional<Object> optional = new Optional<Object>();
+
+		Assert.assertSame(Optional.empty(), optional.convert(new Converter<Object, Object>() {
+
+			@Override
+			public Object convert(Object from) throws ConversionException {
+				return from;
+			}
+
+		}));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void selectAsync_nullSelection() {
+
+		new Optional<Object>().selectAsync(null, new DirectExecutor());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void selectAsync_nullExecutor() {
+
+		new Optional<Object>().selectAsync(new NullOptionalSelection<Object, Object>(), null);
+
+	}
+
+	@Test
+	public void selectAsync_value() throws Exception {
+
+		Object result = new Object();
+		Optional<Object> optional = new Optional<Object>(new Object());
+		DirectExecutor executor = new DirectExecutor();
+
+		Future<Object> future = optional.selectAsync(new ConstantSelection(result), executor);
+
+		Assert.assertEquals(1, executor.executions);
+		Assert.assertTrue(future.isDone());
+		Assert.assertSame(result, future.get());
+
+	}
+
+	@Test
+	public void selectAsync_noValue() throws Exception {
+
+		Object result = new Object();
+		Optional<Object> optional = new Optional<Object>();
+		DirectExecutor executor = new DirectExecutor();
+
+		Future<Object> future = optional.selectAsync(new ConstantSelection(result), executor);
+
+		Assert.assertEquals(0, executor.executions);
+		Assert.assertTrue(future.isDone());
+		Assert.assertSame(result, future.get());
+
+	}
+
+	@Test
+	public void selectAsync_noValue_shared() {
+
+		Optional<Object> optional = new Optional<Object>();
+		DirectExecutor executor = new DirectExecutor();
+
+		Future<Object> future = optional.selectAsync(new ConstantSelection(null), executor);
+
+		Assert.assertSame(future, optional.selectAsync(new ConstantSelection(null), executor));
+
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void selectAsync_valueFailure() throws Exception {
+
+		Optional<Object> optional = new Optional<Object>(new Object());
+
+		Future<Object> future = optional.selectAsync(new FailingSelection(), new DirectExecutor());
+
+		Assert.assertTrue(future.isDone());
+		future.get();
+
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void selectAsync_noValueFailure() throws Exception {
+
+		Optional<Object> optional = new Optional<Object>();
+
+		Future<Object> future = optional.selectAsync(new FailingSelection(), new DirectExecutor());
+
+		Assert.assertTrue(future.isDone());
+		future.get();
+
+	}
+
+	private static final class DirectExecutor implements Executor {
+
+		private int executions;
+
+		@Override
+		public void execute(Runnable command) {
+			executions++;
+			command.run();
+		}
+
+	}
+
+	private static final class ConstantSelection implements OptionalSelection<Object, Object> {
+
+		private final Object result;
+
+		public ConstantSelection(Object result) {
+			this.result = result;
+		}
+
+		@Override
+		public Object onNoValue() {
+			return result;
+		}
+
+		@Override
+		public Object onValue(Object payload) {
+			return result;
+		}
+
+	}
+
+	private static final class FailingSelection implements OptionalSelection<Object, Object> {
+
+		@Override
+		public Object onNoValue() {
+			throw new IllegalStateException();
+		}
+
+		@Override
+		public Object onValue(Object payload) {
+			throw new IllegalStateException();
+		}
+
+	}
+
+	@Test
+	public void of_null_shared() {
+
+		Assert.assertSame(Optional.<Object> of(null), Optional.<Object> of(null));
+
+	}
+
+	@Test
+	public void of_boolean_shared() {
+
+		Assert.assertSame(Optional.<Object> of(Boolean.TRUE), Optional.<Object> of(Boolean.TRUE));
+		Assert.assertNotSame(Optional.<Object> of(Boolean.TRUE), Optional.<Object> of(Boolean.FALSE));
+
+	}
+
+	@Test
+	public void of_smallInteger_shared() {
+
+		Assert.assertSame(Optional.<Object> of(Integer.valueOf(-128)), Optional.<Object> of(Integer.valueOf(-128)));
+		Assert.assertSame(Optional.<Object> of(Integer.valueOf(127)), Optional.<Object> of(Integer.valueOf(127)));
+		Assert.assertEquals(Integer.valueOf(42), Optional.<Object> of(Integer.valueOf(42)).getValue());
+
+	}
+
+	@Test
+	public void of_largeInteger() {
+
+		Integer value = Integer.valueOf(100000);
+
+		Assert.assertNotSame(Optional.<Object> of(value), Optional.<Object> of(value));
+		Assert.assertSame(value, Optional.<Object> of(value).getValue());
+
+	}
+
+	@Test
+	public void of_equalsConstructed() {
+
+		Assert.assertEquals(new Optional<Object>(null), Optional.<Object> of(null));
+
+	}
+
 }
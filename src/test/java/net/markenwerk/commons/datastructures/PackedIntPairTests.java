@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class PackedIntPairTests {
+
+	@Test
+	public void first() {
+
+		long packed = PackedIntPair.pack(-1, 2);
+
+		Assert.assertEquals(-1, PackedIntPair.first(packed));
+
+	}
+
+	@Test
+	public void second() {
+
+		long packed = PackedIntPair.pack(1, -2);
+
+		Assert.assertEquals(-2, PackedIntPair.second(packed));
+
+	}
+
+	@Test
+	public void withFirst_changeFirst() {
+
+		long packed = PackedIntPair.withFirst(PackedIntPair.pack(1, -2), Integer.MIN_VALUE);
+
+		Assert.assertEquals(Integer.MIN_VALUE, PackedIntPair.first(packed));
+
+	}
+
+	@Test
+	public void withFirst_keepSecond() {
+
+		long packed = PackedIntPair.withFirst(PackedIntPair.pack(1, -2), Integer.MIN_VALUE);
+
+		Assert.assertEquals(-2, PackedIntPair.second(packed));
+
+	}
+
+	@Test
+	public void withSecond_keepFirst() {
+
+		long packed = PackedIntPair.withSecond(PackedIntPair.pack(-1, 2), Integer.MAX_VALUE);
+
+		Assert.assertEquals(-1, PackedIntPair.first(packed));
+
+	}
+
+	@Test
+	public void withSecond_changeSecond() {
+
+		long packed = PackedIntPair.withSecond(PackedIntPair.pack(-1, 2), -3);
+
+		Assert.assertEquals(-3, PackedIntPair.second(packed));
+
+	}
+
+	@Test
+	public void equals_equal() {
+
+		Assert.assertTrue(PackedIntPair.equals(PackedIntPair.pack(1, 2), PackedIntPair.pack(1, 2)));
+
+	}
+
+	@Test
+	public void equals_nonEqual() {
+
+		Assert.assertFalse(PackedIntPair.equals(PackedIntPair.pack(1, 2), PackedIntPair.pack(2, 1)));
+
+	}
+
+	@Test
+	public void hashCode_pair() {
+
+		long packed = PackedIntPair.pack(-7, 13);
+
+		Assert.assertEquals(new Pair<Integer>(-7, 13).hashCode(), PackedIntPair.hashCode(packed));
+
+	}
+
+	@Test
+	public void toPair() {
+
+		Assert.assertEquals(new Pair<Integer>(-7, 13), PackedIntPair.toPair(PackedIntPair.pack(-7, 13)));
+
+	}
+
+	@Test
+	public void fromPair() {
+
+		Assert.assertEquals(PackedIntPair.pack(-7, 13), PackedIntPair.fromPair(new Pair<Integer>(-7, 13)));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fromPair_null() {
+
+		PackedIntPair.fromPair(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fromPair_nullValue() {
+
+		PackedIntPair.fromPair(new Pair<Integer>(null, 13));
+
+	}
+
+}
@@ -21,6 +21,9 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -139,4 +142,42 @@ public class PairTests {
 
 	}
 
+	@Test
+	public void hashCode_equal() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Pair<Object> pair1 = new Pair<Object>(first, second);
+		Pair<Object> pair2 = new Pair<Object>(first, second);
+
+		Assert.assertEquals(pair1.hashCode(), pair2.hashCode());
+
+	}
+
+	@Test
+	public void hashCode_notCachedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Pair<Object> pair = new Pair<Object>(counter, null);
+
+		pair.hashCode();
+		pair.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void hashCode_mutatedValue() {
+
+		List<Object> list = new ArrayList<Object>();
+		Pair<Object> pair = new Pair<Object>(list, null);
+		pair.hashCode();
+
+		list.add("foo");
+
+		Assert.assertEquals(new Pair<Object>(new ArrayList<Object>(list), null).hashCode(), pair.hashCode());
+
+	}
+
 }
@@ -24,9 +24,30 @@ package net.markenwerk.commons.datastructures;
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
 @SuppressWarnings("javadoc")
 public class RightTests {
 
+	private static final Converter<String, Integer> LENGTH = new Converter<String, Integer>() {
+
+		@Override
+		public Integer convert(String from) throws ConversionException {
+			return from.length();
+		}
+
+	};
+
+	private static final Converter<String, String> IDENTITY = new Converter<String, String>() {
+
+		@Override
+		public String convert(String from) throws ConversionException {
+			return from;
+		}
+
+	};
+
 	@Test
 	public void isLeft() {
 
@@ -94,4 +115,135 @@ public class RightTests {
 
 	}
 
+	@Test
+	public void fold() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		Integer result = either.fold(new Converter<String, Integer>() {
+
+			@Override
+			public Integer convert(String from) throws ConversionException {
+				throw new AssertionError();
+			}
+
+		}, LENGTH);
+
+		Assert.assertEquals(Integer.valueOf(3), result);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fold_nullConverter() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		either.fold(null, LENGTH);
+
+	}
+
+	@Test
+	public void mapLeft() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		Assert.assertSame(either, either.mapLeft(LENGTH));
+
+	}
+
+	@Test
+	public void mapRight() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		Assert.assertEquals(new Right<String, Integer>(3), either.mapRight(LENGTH));
+
+	}
+
+	@Test
+	public void mapRight_unchanged() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		Assert.assertSame(either, either.mapRight(IDENTITY));
+
+	}
+
+	@Test
+	public void flatMap() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		Either<String, Integer> result = either.flatMap(new Converter<String, Either<String, Integer>>() {
+
+			@Override
+			public Either<String, Integer> convert(String from) throws ConversionException {
+				return new Left<String, Integer>(from + "!");
+			}
+
+		});
+
+		Assert.assertEquals(new Left<String, Integer>("foo!"), result);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void flatMap_nullResult() {
+
+		Either<String, String> either = new Right<String, String>("foo");
+
+		either.flatMap(new Converter<String, Either<String, Integer>>() {
+
+			@Override
+			public Either<String, Integer> convert(String from) throws ConversionException {
+				return null;
+			}
+
+		});
+
+	}
+
+	@Test
+	public void of_null_shared() {
+
+		Assert.assertSame(Right.<Object, Object> of(null), Right.<Object, Object> of(null));
+
+	}
+
+	@Test
+	public void of_boolean_shared() {
+
+		Assert.assertSame(Right.<Object, Object> of(Boolean.TRUE), Right.<Object, Object> of(Boolean.TRUE));
+		Assert.assertNotSame(Right.<Object, Object> of(Boolean.TRUE), Right.<Object, Object> of(Boolean.FALSE));
+
+	}
+
+	@Test
+	public void of_smallInteger_shared() {
+
+		Assert.assertSame(Right.<Object, Object> of(Integer.valueOf(-128)),
+				Right.<Object, Object> of(Integer.valueOf(-128)));
+		Assert.assertSame(Right.<Object, Object> of(Integer.valueOf(127)),
+				Right.<Object, Object> of(Integer.valueOf(127)));
+		Assert.assertEquals(Integer.valueOf(42), Right.<Object, Object> of(Integer.valueOf(42)).getRight());
+
+	}
+
+	@Test
+	public void of_largeInteger() {
+
+		Integer value = Integer.valueOf(100000);
+
+		Assert.assertNotSame(Right.<Object, Object> of(value), Right.<Object, Object> of(value));
+		Assert.assertSame(value, Right.<Object, Object> of(value).getRight());
+
+	}
+
+	@Test
+	public void of_equalsConstructed() {
+
+		Assert.assertEquals(new Right<Object, Object>(null), Right.<Object, Object> of(null));
+
+	}
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class StripedBoxTests {
+
+	private static final Combiner<Long> SUM = new Combiner<Long>() {
+
+		@Override
+		public Long combine(Long first, Long second) {
+			return first + second;
+		}
+
+	};
+
+	private static final Combiner<Long> MAXIMUM = new Combiner<Long>() {
+
+		@Override
+		public Long combine(Long first, Long second) {
+			return Math.max(first, second);
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCombiner() {
+
+		new StripedBox<Long>(0L, null);
+
+	}
+
+	@Test
+	public void create_identity() {
+
+		StripedBox<Long> box = new StripedBox<Long>(0L, SUM);
+
+		Assert.assertEquals(Long.valueOf(0L), box.getValue());
+
+	}
+
+	@Test
+	public void accumulate() {
+
+		StripedBox<Long> box = new StripedBox<Long>(0L, SUM);
+
+		box.accumulate(2L);
+		box.accumulate(3L);
+
+		Assert.assertEquals(Long.valueOf(5L), box.getValue());
+
+	}
+
+	@Test
+	public void accumulate_maximum() {
+
+		StripedBox<Long> box = new StripedBox<Long>(Long.MIN_VALUE, MAXIMUM);
+
+		box.accumulate(2L);
+		box.accumulate(7L);
+		box.accumulate(3L);
+
+		Assert.assertEquals(Long.valueOf(7L), box.getValue());
+
+	}
+
+	@Test
+	public void setValue() {
+
+		StripedBox<Long> box = new StripedBox<Long>(0L, SUM);
+		box.accumulate(2L);
+
+		box.setValue(10L);
+		box.accumulate(1L);
+
+		Assert.assertEquals(Long.valueOf(11L), box.getValue());
+
+	}
+
+	@Test
+	public void accumulate_concurrent() throws InterruptedException {
+
+		final StripedBox<Long> box = new StripedBox<Long>(0L, SUM);
+		final CountDownLatch latch = new CountDownLatch(1);
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						latch.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int j = 0; j < 10000; j++) {
+						box.accumulate(1L);
+					}
+				}
+
+			});
+			threads[i].start();
+		}
+		latch.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(Long.valueOf(80000L), box.getValue());
+
+	}
+
+}
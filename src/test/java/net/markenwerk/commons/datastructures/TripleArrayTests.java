@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Comparator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TripleArrayTests {
+
+	private static final Comparator<String> ASCENDING = new Comparator<String>() {
+
+		@Override
+		public int compare(String first, String second) {
+			return first.compareTo(second);
+		}
+
+	};
+
+	@Test
+	public void add_values() {
+
+		TripleArray<String, String, String> array = new TripleArray<String, String, String>();
+
+		array.add("first", "second", "third");
+
+		Assert.assertEquals("first", array.getFirst(0));
+		Assert.assertEquals("second", array.getSecond(0));
+		Assert.assertEquals("third", array.getThird(0));
+
+	}
+
+	@Test
+	public void add_triple() {
+
+		Triple<Object, Object, Object> triple = new Triple<Object, Object, Object>(new Object(), new Object(),
+				new Object());
+		TripleArray<Object, Object, Object> array = new TripleArray<Object, Object, Object>();
+
+		array.add(triple);
+
+		Assert.assertEquals(triple, array.get(0));
+
+	}
+
+	@Test
+	public void sortByThird() {
+
+		TripleArray<Integer, Integer, String> array = new TripleArray<Integer, Integer, String>();
+		for (int i = 0; i < 50; i++) {
+			array.add(i, i * 2, Integer.toString(99 - i));
+		}
+
+		array.sortByThird(ASCENDING);
+
+		for (int i = 0; i < array.size(); i++) {
+			Assert.assertEquals(Integer.valueOf(49 - i), array.getFirst(i));
+			Assert.assertEquals(Integer.valueOf((49 - i) * 2), array.getSecond(i));
+		}
+
+	}
+
+	@Test
+	public void cursor_iterate() {
+
+		TripleArray<Integer, Integer, Integer> array = new TripleArray<Integer, Integer, Integer>();
+		array.add(1, 2, 3);
+		array.add(4, 5, 6);
+		TripleArrayCursor<Integer, Integer, Integer> cursor = array.cursor();
+
+		int sum = 0;
+		while (cursor.next()) {
+			sum += cursor.getFirst() + cursor.getSecond() + cursor.getThird();
+		}
+
+		Assert.assertEquals(21, sum);
+
+	}
+
+	@Test
+	public void cursor_freeze() {
+
+		TripleArray<Integer, Integer, Integer> array = new TripleArray<Integer, Integer, Integer>();
+		array.add(1, 2, 3);
+		TripleArrayCursor<Integer, Integer, Integer> cursor = array.cursor();
+		cursor.next();
+
+		TripleView<Integer, Integer, Integer> view = cursor;
+
+		Assert.assertEquals(new Triple<Integer, Integer, Integer>(1, 2, 3), view.freeze());
+
+	}
+
+}
@@ -21,6 +21,9 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -232,4 +235,52 @@ public class TripleTests {
 
 	}
 
+	@Test
+	public void hashCode_equal() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Triple<Object, Object, Object> triple1 = new Triple<Object, Object, Object>(first, second, null);
+		Triple<Object, Object, Object> triple2 = new Triple<Object, Object, Object>(first, second, null);
+
+		Assert.assertEquals(triple1.hashCode(), triple2.hashCode());
+
+	}
+
+	@Test
+	public void hashCode_notCachedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Triple<Object, Object, Object> triple = new Triple<Object, Object, Object>(null, null, counter);
+
+		triple.hashCode();
+		triple.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void hashCode_mutatedValue() {
+
+		List<Object> list = new ArrayList<Object>();
+		Triple<Object, Object, Object> triple = new Triple<Object, Object, Object>(null, null, list);
+		triple.hashCode();
+
+		list.add("foo");
+
+		Assert.assertEquals(new Triple<Object, Object, Object>(null, null, new ArrayList<Object>(list)).hashCode(), triple.hashCode());
+
+	}
+
+	@Test
+	public void freeze() {
+
+		Triple<Object, Object, Object> triple = new Triple<Object, Object, Object>(new Object(), new Object(),
+				new Object());
+
+		Assert.assertSame(triple, triple.freeze());
+
+	}
+
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TupleArrayTests {
+
+	private static final Comparator<Integer> ASCENDING = new Comparator<Integer>() {
+
+		@Override
+		public int compare(Integer first, Integer second) {
+			return first.compareTo(second);
+		}
+
+	};
+
+	@Test
+	public void create_empty() {
+
+		TupleArray<Object, Object> array = new TupleArray<Object, Object>();
+
+		Assert.assertTrue(array.isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new TupleArray<Object, Object>(-1);
+
+	}
+
+	@Test
+	public void add_values() {
+
+		Object first = new Object();
+		Object second = new Object();
+		TupleArray<Object, Object> array = new TupleArray<Object, Object>(0);
+
+		array.add(first, second);
+
+		Assert.assertEquals(1, array.size());
+		Assert.assertSame(first, array.getFirst(0));
+		Assert.assertSame(second, array.getSecond(0));
+
+	}
+
+	@Test
+	public void add_tuple() {
+
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(new Object(), new Object());
+		TupleArray<Object, Object> array = new TupleArray<Object, Object>();
+
+		array.add(tuple);
+
+		Assert.assertEquals(tuple, array.get(0));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_nullTuple() {
+
+		new TupleArray<Object, Object>().add(null);
+
+	}
+
+	@Test
+	public void add_grow() {
+
+		TupleArray<Integer, Integer> array = new TupleArray<Integer, Integer>(1);
+
+		for (int i = 0; i < 100; i++) {
+			array.add(i, -i);
+		}
+
+		Assert.assertEquals(100, array.size());
+		Assert.assertEquals(Integer.valueOf(99), array.getFirst(99));
+		Assert.assertEquals(Integer.valueOf(-99), array.getSecond(99));
+
+	}
+
+	@Test
+	public void set() {
+
+		Object first = new Object();
+		TupleArray<Object, Object> array = new TupleArray<Object, Object>();
+		array.add(null, null);
+
+		array.set(0, first, null);
+
+		Assert.assertSame(first, array.getFirst(0));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_outOfBounds() {
+
+		TupleArray<Object, Object> array = new TupleArray<Object, Object>();
+		array.add(null, null);
+
+		array.get(1);
+
+	}
+
+	@Test
+	public void clear() {
+
+		TupleArray<Object, Object> array = new TupleArray<Object, Object>();
+		array.add(null, null);
+
+		array.clear();
+
+		Assert.assertTrue(array.isEmpty());
+
+	}
+
+	@Test
+	public void sortByFirst() {
+
+		Random random = new Random(42);
+		TupleArray<Integer, Integer> array = new TupleArray<Integer, Integer>();
+		for (int i = 0; i < 1000; i++) {
+			int value = random.nextInt(100);
+			array.add(value, -value);
+		}
+
+		array.sortByFirst(ASCENDING);
+
+		for (int i = 0; i < array.size(); i++) {
+			Assert.assertEquals(-array.getFirst(i), (int) array.getSecond(i));
+			if (0 != i) {
+				Assert.assertTrue(array.getFirst(i - 1) <= array.getFirst(i));
+			}
+		}
+
+	}
+
+	@Test
+	public void sortBySecond() {
+
+		TupleArray<String, Integer> array = new TupleArray<String, Integer>();
+		array.add("c", 3);
+		array.add("a", 1);
+		array.add("b", 2);
+
+		array.sortBySecond(ASCENDING);
+
+		Assert.assertEquals("a", array.getFirst(0));
+		Assert.assertEquals("b", array.getFirst(1));
+		Assert.assertEquals("c", array.getFirst(2));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sortByFirst_nullComparator() {
+
+		new TupleArray<Integer, Integer>().sortByFirst(null);
+
+	}
+
+	@Test
+	public void cursor_iterate() {
+
+		TupleArray<Integer, Integer> array = new TupleArray<Integer, Integer>();
+		array.add(1, 2);
+		array.add(3, 4);
+		TupleArrayCursor<Integer, Integer> cursor = array.cursor();
+
+		int sum = 0;
+		while (cursor.next()) {
+			sum += cursor.getFirst() * cursor.getSecond();
+		}
+
+		Assert.assertEquals(14, sum);
+		Assert.assertFalse(cursor.next());
+
+	}
+
+	@Test
+	public void cursor_moveTo() {
+
+		TupleArray<Integer, Integer> array = new TupleArray<Integer, Integer>();
+		array.add(1, 2);
+		array.add(3, 4);
+		TupleArrayCursor<Integer, Integer> cursor = array.cursor();
+
+		cursor.moveTo(1);
+
+		Assert.assertEquals(Integer.valueOf(3), cursor.getFirst());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cursor_notPositioned() {
+
+		TupleArray<Integer, Integer> array = new TupleArray<Integer, Integer>();
+		array.add(1, 2);
+
+		array.cursor().getFirst();
+
+	}
+
+	@Test
+	public void cursor_freeze() {
+
+		TupleArray<Integer, Integer> array = new TupleArray<Integer, Integer>();
+		array.add(1, 2);
+		TupleArrayCursor<Integer, Integer> cursor = array.cursor();
+		cursor.next();
+
+		TupleView<Integer, Integer> view = cursor;
+
+		Assert.assertEquals(new Tuple<Integer, Integer>(1, 2), view.freeze());
+
+	}
+
+}
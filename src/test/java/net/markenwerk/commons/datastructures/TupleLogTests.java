@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TupleLogTests {
+
+	private static final Codec<Entry<String, Long>> CODEC = new EntryCodec<String, Long>(Codecs.STRING, Codecs.LONG);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullDirectory() throws IOException {
+
+		new TupleLog<Entry<String, Long>>(null, CODEC);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCodec() throws IOException {
+
+		File directory = createDirectory();
+
+		try {
+			new TupleLog<Entry<String, Long>>(directory, null);
+		} finally {
+			delete(directory);
+		}
+
+	}
+
+	@Test
+	public void append_cursor() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<Entry<String, Long>> log = new TupleLog<Entry<String, Long>>(directory, CODEC, 1024);
+		for (long i = 0; i < 10; i++) {
+			log.append(new Entry<String, Long>("key" + i, i));
+		}
+
+		TupleLogCursor<Entry<String, Long>> cursor = log.cursor();
+		for (long i = 0; i < 10; i++) {
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(new Entry<String, Long>("key" + i, i), cursor.getValue());
+		}
+		Assert.assertFalse(cursor.next());
+		log.close();
+		delete(directory);
+
+	}
+
+	@Test
+	public void cursor_tail() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<Entry<String, Long>> log = new TupleLog<Entry<String, Long>>(directory, CODEC, 64);
+		TupleLogCursor<Entry<String, Long>> cursor = log.cursor();
+
+		Assert.assertFalse(cursor.next());
+		for (long i = 0; i < 10; i++) {
+			log.append(new Entry<String, Long>("key", i));
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(Long.valueOf(i), cursor.getValue().getValue());
+			Assert.assertFalse(cursor.next());
+		}
+		log.close();
+		delete(directory);
+
+	}
+
+	@Test
+	public void append_rollsSegments() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<Entry<String, Long>> log = new TupleLog<Entry<String, Long>>(directory, CODEC, 64);
+		for (long i = 0; i < 100; i++) {
+			log.append(new Entry<String, Long>("key" + i, i));
+		}
+
+		Assert.assertTrue(log.getSegmentCount() > 1);
+		Assert.assertEquals(log.getSegmentCount(), directory.list().length);
+		Assert.assertEquals(100, count(log));
+		log.close();
+		delete(directory);
+
+	}
+
+	@Test
+	public void reopen_continues() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<Entry<String, Long>> log = new TupleLog<Entry<String, Long>>(directory, CODEC, 64);
+		for (long i = 0; i < 10; i++) {
+			log.append(new Entry<String, Long>("key", i));
+		}
+		log.close();
+
+		log = new TupleLog<Entry<String, Long>>(directory, CODEC, 64);
+		for (long i = 10; i < 20; i++) {
+			log.append(new Entry<String, Long>("key", i));
+		}
+
+		TupleLogCursor<Entry<String, Long>> cursor = log.cursor();
+		for (long i = 0; i < 20; i++) {
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(Long.valueOf(i), cursor.getValue().getValue());
+		}
+		Assert.assertFalse(cursor.next());
+		log.close();
+		delete(directory);
+
+	}
+
+	@Test
+	public void reopen_recoversTornRecord() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<Entry<String, Long>> log = new TupleLog<Entry<String, Long>>(directory, CODEC, 1024);
+		log.append(new Entry<String, Long>("foo", 1L));
+		log.append(new Entry<String, Long>("bar", 2L));
+		log.close();
+
+		int firstRecordSize = TupleLog.HEADER_SIZE
+				+ Codecs.encode(CODEC, new Entry<String, Long>("foo", 1L)).remaining();
+		RandomAccessFile file = new RandomAccessFile(new File(directory, directory.list()[0]), "rw");
+		file.seek(firstRecordSize + TupleLog.HEADER_SIZE);
+		file.write(42);
+		file.close();
+
+		log = new TupleLog<Entry<String, Long>>(directory, CODEC, 1024);
+		Assert.assertEquals(1, count(log));
+
+		log.append(new Entry<String, Long>("baz", 3L));
+		TupleLogCursor<Entry<String, Long>> cursor = log.cursor();
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals("foo", cursor.getValue().getKey());
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals("baz", cursor.getValue().getKey());
+		Assert.assertFalse(cursor.next());
+		log.close();
+		delete(directory);
+
+	}
+
+	@Test
+	public void cursor_recordIsReadOnlyView() throws IOException {
+
+		Codec<ByteBuffer> codec = Codecs.BYTE_BUFFER;
+		File directory = createDirectory();
+		TupleLog<ByteBuffer> log = new TupleLog<ByteBuffer>(directory, codec, 1024);
+		log.append(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+		TupleLogCursor<ByteBuffer> cursor = log.cursor();
+		Assert.assertTrue(cursor.next());
+		ByteBuffer record = cursor.getRecord();
+		ByteBuffer value = cursor.getValue();
+
+		Assert.assertTrue(record.isReadOnly());
+		Assert.assertTrue(record.isDirect());
+		Assert.assertEquals(4, record.remaining());
+		Assert.assertTrue(value.isDirect());
+		Assert.assertEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), value);
+		log.close();
+		delete(directory);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cursor_noRecord() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<Entry<String, Long>> log = new TupleLog<Entry<String, Long>>(directory, CODEC, 1024);
+
+		try {
+			log.cursor().getRecord();
+		} finally {
+			log.close();
+			delete(directory);
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void append_tooLarge() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<String> log = new TupleLog<String>(directory, Codecs.STRING, 16);
+
+		try {
+			log.append("foobarbazfoobarbaz");
+		} finally {
+			log.close();
+			delete(directory);
+		}
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void append_closed() throws IOException {
+
+		File directory = createDirectory();
+		TupleLog<String> log = new TupleLog<String>(directory, Codecs.STRING, 16);
+		log.close();
+		delete(directory);
+
+		log.append("foo");
+
+	}
+
+	private static int count(TupleLog<?> log) throws IOException {
+		int count = 0;
+		TupleLogCursor<?> cursor = log.cursor();
+		while (cursor.next()) {
+			count++;
+		}
+		return count;
+	}
+
+	private static File createDirectory() throws IOException {
+		File directory = File.createTempFile("tuple-log", "");
+		directory.delete();
+		directory.mkdir();
+		return directory;
+	}
+
+	private static void delete(File directory) {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+}
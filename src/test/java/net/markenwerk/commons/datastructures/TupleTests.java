@@ -21,6 +21,9 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -139,4 +142,62 @@ public class TupleTests {
 
 	}
 
+	@Test
+	public void hashCode_equal() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Tuple<Object, Object> tuple1 = new Tuple<Object, Object>(first, second);
+		Tuple<Object, Object> tuple2 = new Tuple<Object, Object>(first, second);
+
+		Assert.assertEquals(tuple1.hashCode(), tuple2.hashCode());
+
+	}
+
+	@Test
+	public void hashCode_notCachedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(counter, null);
+
+		tuple.hashCode();
+		tuple.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void hasImmutableValues() {
+
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>("foo", new Entry<Integer, Boolean>(42, true));
+
+		Assert.assertTrue(tuple.hasImmutableValues());
+		Assert.assertFalse(new Tuple<Object, Object>("foo", new Wrapper<Object>(new ArrayList<Object>()))
+				.hasImmutableValues());
+
+	}
+
+	@Test
+	public void hashCode_mutatedValue() {
+
+		List<Object> list = new ArrayList<Object>();
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(list, null);
+		tuple.hashCode();
+
+		list.add("foo");
+
+		Assert.assertEquals(new Tuple<Object, Object>(new ArrayList<Object>(list), null).hashCode(), tuple.hashCode());
+
+	}
+
+	@Test
+	public void freeze() {
+
+		Tuple<Object, Object> tuple = new Tuple<Object, Object>(new Object(), new Object());
+
+		Assert.assertSame(tuple, tuple.freeze());
+
+	}
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2015, 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.datastructures;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class WeakInternerTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveConcurrencyLevel() {
+
+		new WeakInterner<Object>(0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_tooLargeConcurrencyLevel() {
+
+		new WeakInterner<Object>(Integer.MAX_VALUE);
+
+	}
+
+	@Test
+	public void intern_null() {
+
+		Interner<Object> interner = new WeakInterner<Object>();
+
+		Assert.assertNull(interner.intern(null));
+
+	}
+
+	@Test
+	public void intern_first() {
+
+		Tuple<String, String> tuple = new Tuple<String, String>("first", "second");
+		Interner<Tuple<String, String>> interner = new WeakInterner<Tuple<String, String>>();
+
+		Assert.assertSame(tuple, interner.intern(tuple));
+		Assert.assertEquals(0, interner.getHitCount());
+		Assert.assertEquals(1, interner.getMissCount());
+
+	}
+
+	@Test
+	public void intern_equal() {
+
+		Tuple<String, String> tuple = new Tuple<String, String>("first", "second");
+		Interner<Tuple<String, String>> interner = new WeakInterner<Tuple<String, String>>();
+		interner.intern(tuple);
+
+		Assert.assertSame(tuple, interner.intern(new Tuple<String, String>("first", "second")));
+		Assert.assertEquals(1, interner.getHitCount());
+		Assert.assertEquals(1, interner.getMissCount());
+
+	}
+
+	@Test
+	public void intern_sameInstance() {
+
+		Entry<String, String> entry = new Entry<String, String>("key", "value");
+		Interner<Entry<String, String>> interner = new WeakInterner<Entry<String, String>>();
+
+		interner.intern(entry);
+		interner.intern(entry);
+
+		Assert.assertEquals(1, interner.getHitCount());
+		Assert.assertEquals(1, interner.getMissCount());
+
+	}
+
+}
@@ -21,6 +21,9 @@
  */
 package net.markenwerk.commons.datastructures;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -67,4 +70,41 @@ public class WrapperTests {
 
 	}
 
+	@Test
+	public void hashCode_equal() {
+
+		Object first = new Object();
+		Wrapper<Object> wrapper1 = new Wrapper<Object>(first);
+		Wrapper<Object> wrapper2 = new Wrapper<Object>(first);
+
+		Assert.assertEquals(wrapper1.hashCode(), wrapper2.hashCode());
+
+	}
+
+	@Test
+	public void hashCode_notCachedForUnknownValues() {
+
+		HashCodeCounter counter = new HashCodeCounter();
+		Wrapper<Object> wrapper = new Wrapper<Object>(counter);
+
+		wrapper.hashCode();
+		wrapper.hashCode();
+
+		Assert.assertEquals(2, counter.getCount());
+
+	}
+
+	@Test
+	public void hashCode_mutatedValue() {
+
+		List<Object> list = new ArrayList<Object>();
+		Wrapper<Object> wrapper = new Wrapper<Object>(list);
+		wrapper.hashCode();
+
+		list.add("foo");
+
+		Assert.assertEquals(new Wrapper<Object>(new ArrayList<Object>(list)).hashCode(), wrapper.hashCode());
+
+	}
+
 }